@@ -0,0 +1,58 @@
+package com.mygdx.game.db;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * inserts turns into a database in a temporary file, every insert is committed as in the game
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameDatabaseBenchmark {
+    private Path file;
+    private Connection connection;
+    private GameDatabase gameDatabase;
+    private int playerId, gameId, round;
+
+    @Setup
+    public void setUp() throws IOException, SQLException {
+        file = Files.createTempFile("turns", ".db");
+        connection = DriverManager.getConnection("jdbc:sqlite:" + file);
+        connection.setAutoCommit(false);
+        gameDatabase = new GameDatabase(connection);
+        playerId = gameDatabase.insertPlayerAndGetId("player");
+        gameId = gameDatabase.insertGame(2, 999, 125, 125);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException, SQLException {
+        connection.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public int insertTurn() throws SQLException {
+        return gameDatabase.insertTurn(playerId, gameId, round++, 100, 50);
+    }
+}
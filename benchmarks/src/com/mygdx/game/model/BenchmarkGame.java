@@ -0,0 +1,97 @@
+package com.mygdx.game.model;
+
+import com.mygdx.game.db.GameDatabase;
+import com.mygdx.game.model.gameobjects.units.Peasant;
+import com.mygdx.game.model.gameobjects.units.Unit;
+import com.mygdx.game.model.maps.Border;
+import com.mygdx.game.model.maps.CellType;
+import com.mygdx.game.model.maps.GameMap;
+import com.mygdx.game.model.maps.MapCell;
+import com.mygdx.game.model.players.Player;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * <p>
+ * Game in the middle of play for the benchmarks: every player has a capital and a number of peasants on cells
+ * taken from nobody, and the first round is over.
+ * </p>
+ * <p>
+ * players start with extra territory, so their income covers the cost and the upkeep of their armies
+ * and nextTurn does not wipe them out; turns are written to an in-memory database
+ * </p>
+ */
+public class BenchmarkGame {
+    private static final int EXTRA_TERRITORY = 1_000_000;
+
+    public final GameMap gameMap;
+    public final GamingProcess gamingProcess;
+    public final GameDatabase gameDatabase;
+    private final Connection connection;
+
+    public BenchmarkGame(int size, int playersNumber, int unitsPerPlayer, long seed) throws SQLException {
+        gameMap = new GameMap(size, size, 0, seed);
+        connection = DriverManager.getConnection("jdbc:sqlite::memory:");
+        connection.setAutoCommit(false);
+        gameDatabase = new GameDatabase(connection);
+
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < playersNumber; ++i) {
+            String name = "player" + i;
+            Player player = new Player(gameDatabase.insertPlayerAndGetId(name), name, Border.get(i));
+            player.addTerritory(EXTRA_TERRITORY);
+            players.add(player);
+        }
+        int gameId = gameDatabase.insertGame(playersNumber, seed, size, size);
+        gamingProcess = new GamingProcess(gameMap, gameDatabase, players, gameId);
+
+        Random random = new Random(seed);
+        for (Player player : players) {
+            MapCell cell = freeCell(random);
+            gamingProcess.createCapitalArea(gamingProcess.getPlayers().get(player.id), cell.x, cell.y);
+        }
+        for (Player player : players) {
+            for (int i = 0; i < unitsPerPlayer; ++i) {
+                MapCell cell = freeCell(random);
+                gamingProcess.placeNewGameObjectOnCell(new Peasant(gameMap, null, player), cell.x, cell.y);
+            }
+        }
+        for (int i = 0; i < playersNumber; ++i) {
+            gamingProcess.nextTurn();
+        }
+    }
+
+    /**
+     * @return all units of all players
+     */
+    public List<Unit> getUnits() {
+        List<Unit> units = new ArrayList<>();
+        for (Player player : gamingProcess.getPlayers().values()) {
+            for (Unit unit : player.getUnits()) {
+                units.add(unit);
+            }
+        }
+        return units;
+    }
+
+    public void close() throws SQLException {
+        connection.close();
+    }
+
+    /**
+     * @return random land cell of nobody
+     */
+    private MapCell freeCell(Random random) {
+        while (true) {
+            MapCell cell = gameMap.getCell(random.nextInt(gameMap.getWidth()), random.nextInt(gameMap.getHeight()));
+            if (cell.getType() != CellType.WATER && cell.getOwnerId() == Player.NOBODY.id && cell.getGameObject() == null) {
+                return cell;
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.mygdx.game.model;
+
+import com.mygdx.game.model.gameobjects.units.Peasant;
+import com.mygdx.game.model.gameobjects.units.Unit;
+import com.mygdx.game.model.maps.CellType;
+import com.mygdx.game.model.maps.GameMap;
+import com.mygdx.game.model.maps.MapCell;
+import com.mygdx.game.model.players.Player;
+import com.mygdx.game.utils.HexGrid;
+import com.mygdx.game.utils.TurnState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GamingProcessBenchmark {
+    @Param({"125"})
+    public int size;
+
+    @Param({"4", "10"})
+    public int players;
+
+    @Param({"50", "300"})
+    public int unitsPerPlayer;
+
+    private BenchmarkGame game;
+    private Player player;
+    private int placeX, placeY;
+    private Unit unit;
+    private int fromX, fromY, toX, toY;
+
+    @Setup
+    public void setUp() throws SQLException {
+        game = new BenchmarkGame(size, players, unitsPerPlayer, 999);
+        GameMap gameMap = game.gameMap;
+        player = game.gamingProcess.getCurrentPlayer();
+        MapCell place = freeNeighbour(gameMap, player.getCapital().getPlacement(), null);
+        if (place == null) throw new IllegalStateException("No free cell next to the capital of " + player.name);
+        placeX = place.x;
+        placeY = place.y;
+
+        for (Unit candidate : player.getUnits()) {
+            MapCell to = freeNeighbour(gameMap, candidate.getPlacement(), place);
+            if (to == null) continue;
+            unit = candidate;
+            fromX = candidate.getPlacement().x;
+            fromY = candidate.getPlacement().y;
+            toX = to.x;
+            toY = to.y;
+            break;
+        }
+        if (unit == null) throw new IllegalStateException("No unit of " + player.name + " can move to its own cell");
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        game.close();
+    }
+
+    /**
+     * places a peasant next to the capital, killing the one placed by the previous call
+     */
+    @Benchmark
+    public void placeNewGameObjectOnCell() {
+        game.gamingProcess.placeNewGameObjectOnCell(new Peasant(game.gameMap, null, player), placeX, placeY);
+    }
+
+    /**
+     * moves a unit back and forth between two cells of its owner
+     */
+    @Benchmark
+    public void moveUnit() {
+        game.gamingProcess.moveUnit(unit, toX, toY);
+        int x = toX, y = toY;
+        toX = fromX;
+        toY = fromY;
+        fromX = x;
+        fromY = y;
+    }
+
+    @Benchmark
+    public TurnState nextTurn() {
+        return game.gamingProcess.nextTurn();
+    }
+
+    /**
+     * @return land cell of the player next to cell with no object, other than except
+     */
+    private MapCell freeNeighbour(GameMap gameMap, MapCell cell, MapCell except) {
+        for (int[] nb : HexGrid.getNeighbours(cell.x)) {
+            MapCell neighbour = gameMap.getCell(cell.x + nb[0], cell.y + nb[1]);
+            if (neighbour == null || neighbour.equals(except)) continue;
+            if (neighbour.getType() == CellType.WATER || neighbour.getGameObject() != null) continue;
+            if (neighbour.getOwnerId() == player.id) return neighbour;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,76 @@
+package com.mygdx.game.model.maps;
+
+import com.mygdx.game.model.BenchmarkGame;
+import com.mygdx.game.model.gameobjects.units.Unit;
+import com.mygdx.game.model.players.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameMapBenchmark {
+    @Param({"125", "500"})
+    public int size;
+
+    private BenchmarkGame game;
+    private Map<Integer, Player> players;
+    private int[] unitX, unitY;
+    private int next;
+
+    @Setup
+    public void setUp() throws SQLException {
+        game = new BenchmarkGame(size, 4, 50, 999);
+        players = game.gamingProcess.getPlayers();
+        List<Unit> units = game.getUnits();
+        unitX = new int[units.size()];
+        unitY = new int[units.size()];
+        for (int i = 0; i < units.size(); ++i) {
+            unitX[i] = units.get(i).getPlacement().x;
+            unitY[i] = units.get(i).getPlacement().y;
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        game.close();
+    }
+
+    @Benchmark
+    public int[][] selectCellsToMove() {
+        int i = next++ % unitX.length;
+        return game.gameMap.selectCellsToMove(unitX[i], unitY[i]);
+    }
+
+    /**
+     * selecting units back and forth while the map does not change
+     */
+    @Benchmark
+    public MovementRange movementRange() {
+        int i = next++ % unitX.length;
+        return game.gameMap.getMovementRange(unitX[i], unitY[i]);
+    }
+
+    @Benchmark
+    public void recountDefenceCoverage() {
+        game.gameMap.recountDefenceCoverage(players);
+    }
+}
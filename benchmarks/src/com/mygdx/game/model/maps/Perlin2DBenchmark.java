@@ -0,0 +1,43 @@
+package com.mygdx.game.model.maps;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Perlin2DBenchmark {
+    /**
+     * octaves of the elevation and of the humidity noise of {@link MapCreator}
+     */
+    @Param({"2", "10"})
+    public int octaves;
+
+    private Perlin2D perlin;
+    private int step;
+
+    @Setup
+    public void setUp() {
+        perlin = new Perlin2D(999);
+    }
+
+    @Benchmark
+    public double getNoise() {
+        int i = step++ & 0xFFFF;
+        return perlin.getNoise((i >>> 8) / 125.0, (i & 0xFF) / 125.0, octaves, 0.1);
+    }
+}
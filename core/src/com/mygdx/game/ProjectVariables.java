@@ -1,10 +1,5 @@
 package com.mygdx.game;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.maps.tiled.TiledMapTile;
-import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
 import com.mygdx.game.model.players.Player;
 
 import java.util.ArrayList;
@@ -72,19 +67,20 @@ public class ProjectVariables {
             buildingAssetsDirectory="buildings/";
 
 
-    public static StaticTiledMapTile
-            peasantPic = new StaticTiledMapTile(new TextureRegion(new Texture(Gdx.files.internal(unitAssetsDirectory + "peasant.png")))),
-            militiaPic = new StaticTiledMapTile(new TextureRegion(new Texture(Gdx.files.internal(unitAssetsDirectory +"militia.png")))),
-            knightPic= new StaticTiledMapTile(new TextureRegion(new Texture(Gdx.files.internal(unitAssetsDirectory + "knight.png")))),
-            paladinPic = new StaticTiledMapTile(new TextureRegion(new Texture(Gdx.files.internal(unitAssetsDirectory + "paladin.png"))));
-
-
+    /**
+     * internal paths of the textures, the tiles are loaded by {@link com.mygdx.game.view.TileRegistry}
+     */
+    public static String
+            peasantTexture = unitAssetsDirectory + "peasant.png",
+            militiaTexture = unitAssetsDirectory + "militia.png",
+            knightTexture = unitAssetsDirectory + "knight.png",
+            paladinTexture = unitAssetsDirectory + "paladin.png";
 
-    public static StaticTiledMapTile
-            farmPic = new StaticTiledMapTile(new TextureRegion(new Texture(Gdx.files.internal(buildingAssetsDirectory + "farm.png")))),
-            towerPic=new StaticTiledMapTile(new TextureRegion(new Texture(Gdx.files.internal(buildingAssetsDirectory + "tower.png")))),
-            superTowerPic=new StaticTiledMapTile(new TextureRegion(new Texture(Gdx.files.internal(buildingAssetsDirectory + "superTower.png")))),
-            capitalPic=new StaticTiledMapTile(new TextureRegion(new Texture(Gdx.files.internal(buildingAssetsDirectory + "capital.png"))));
+    public static String
+            farmTexture = buildingAssetsDirectory + "farm.png",
+            towerTexture = buildingAssetsDirectory + "tower.png",
+            superTowerTexture = buildingAssetsDirectory + "superTower.png",
+            capitalTexture = buildingAssetsDirectory + "capital.png";
 
     public static int
             tileWidth = 64,
@@ -92,7 +88,31 @@ public class ProjectVariables {
     public static int
             screenWidth = 1920,
             screenHeight = 980;
-    public static TiledMapTile blackTile = new StaticTiledMapTile(new TextureRegion(new Texture(Gdx.files.internal("pastel_resources_hex/rotat/black.png"))));
+    public static int
+            minMapSize = 10,
+            maxMapSize = 500;
+    /**
+     * turns ahead of the gold projection shown next to the gold of the current player
+     */
+    public static int projectedTurns = 5;
+    public static String blackTexture = "pastel_resources_hex/rotat/black.png";
+    /**
+     * chunks of terrain kept by the renderer, chunks off the screen are evicted when more are needed
+     */
+    public static int cachedChunks = 32;
+    /**
+     * closest zoom of the camera of the game, at zoom 1 a pixel of a tile is a pixel of the screen
+     */
+    public static float minZoom = 0.5f;
+    /**
+     * zoom from which the map is drawn from chunks baked into textures at 1 / lodScale of their size,
+     * at most bakedChunks of them are kept and at most bakesPerFrame are baked in a frame
+     */
+    public static float lodZoom = 4f;
+    public static int
+            lodScale = 8,
+            bakedChunks = 512,
+            bakesPerFrame = 8;
 
 
 
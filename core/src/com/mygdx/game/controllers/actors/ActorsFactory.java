@@ -13,7 +13,6 @@ import com.kotcrab.vis.ui.widget.spinner.IntSpinnerModel;
 import com.kotcrab.vis.ui.widget.spinner.Spinner;
 import com.mygdx.game.view.stages.MainGameStage;
 import com.mygdx.game.view.stages.MenuStage;
-import com.mygdx.game.model.maps.MapCell;
 
 public class ActorsFactory {
     private MainGameStage gameStage;
@@ -40,8 +39,8 @@ public class ActorsFactory {
         this.menuStage = menuStage;
     }
 
-    public TiledMapActor createTiledMapActor(MapCell cell, ClickListener listener, int zIndex) {
-        TiledMapActor actor = new TiledMapActor(cell, zIndex);
+    public HexGridActor createHexGridActor(ClickListener listener) {
+        HexGridActor actor = new HexGridActor();
         actor.addListener(listener);
         return actor;
     }
@@ -0,0 +1,22 @@
+package com.mygdx.game.controllers.actors;
+
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Touchable;
+
+/**
+ * <p>
+ * Single actor under the whole stage that takes the input on the map.
+ * </p>
+ * <p>
+ * the actor does not move with the map: its listener turns the point of the stage into a cell
+ * through the camera and {@link com.mygdx.game.utils.HexagonUtils}, so a click costs the same on any size of map
+ * </p>
+ */
+public class HexGridActor extends Actor {
+    @Override
+    public Actor hit(float x, float y, boolean touchable) {
+        if (touchable && this.getTouchable() != Touchable.enabled) return null;
+        if (!isVisible()) return null;
+        return this;
+    }
+}
@@ -3,10 +3,16 @@ package com.mygdx.game.controllers.listeners.game_cl;
 import com.mygdx.game.view.stages.MainGameStage;
 import com.mygdx.game.model.maps.MapCell;
 
-abstract class CellActionCL extends MainGameStageCL {
-    protected final MapCell cell;
-    public CellActionCL(MainGameStage stage, MapCell cell){
-        super(stage);
-        this.cell = cell;
+/**
+ * action on a clicked cell of the map: {@link MapInputCL} finds the cell under the click
+ * and {@link MainGameStage#clickCell(int, int)} picks the action for it
+ */
+public abstract class CellActionCL {
+    protected final MainGameStage stage;
+
+    public CellActionCL(MainGameStage stage) {
+        this.stage = stage;
     }
+
+    public abstract void clicked(MapCell cell);
 }
@@ -0,0 +1,18 @@
+package com.mygdx.game.controllers.listeners.game_cl;
+
+import com.badlogic.gdx.scenes.scene2d.InputEvent;
+import com.mygdx.game.view.stages.MainGameStage;
+
+/**
+ * listener of the {@link com.mygdx.game.controllers.actors.HexGridActor}, passes the point of the click to the stage
+ */
+public class MapInputCL extends MainGameStageCL {
+    public MapInputCL(MainGameStage stage) {
+        super(stage);
+    }
+
+    @Override
+    public void clicked(InputEvent event, float x, float y) {
+        stage.clickAt(event.getStageX(), event.getStageY());
+    }
+}
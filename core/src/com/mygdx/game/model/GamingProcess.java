@@ -5,17 +5,15 @@ import com.mygdx.game.model.gameobjects.GameObject;
 import com.mygdx.game.model.gameobjects.buildings.Capital;
 import com.mygdx.game.model.gameobjects.units.Unit;
 import com.mygdx.game.model.maps.GameMap;
-import com.mygdx.game.model.maps.MapCell;
 import com.mygdx.game.utils.TurnState;
 import com.mygdx.game.model.players.Player;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.List;
-import java.util.stream.Collectors;
 
 
 public class GamingProcess {
@@ -25,7 +23,7 @@ public class GamingProcess {
 
     private final GameMap gameMap;
     private final GameDatabase gameDatabase;
-    private Map<Integer, Player> players = new HashMap<>();
+    private final Map<Integer, Player> players = new HashMap<>();
     private final List<Integer> turnOrder = new ArrayList<>();
 
     private GameObject gameObjectToPlace = null;
@@ -63,77 +61,83 @@ public class GamingProcess {
         return players.get(turnOrder.get(currentPlayer));
     }
 
+    /**
+     * looks the player up through the ids of the turn order, so the id is not boxed on every action
+     *
+     * @return the player if it is still in the game, null otherwise
+     */
+    private Player getPlayer(int id) {
+        for (int i = 0; i < turnOrder.size(); ++i) {
+            Integer turnId = turnOrder.get(i);
+            if (turnId == id) return players.get(turnId);
+        }
+        return null;
+    }
+
     private void nextRound() {
-        this.players = players.entrySet()
-                .stream()
-                .filter(player -> !player.getValue().isDone())
-                .collect(Collectors.toMap(Entry<Integer, Player>::getKey, Entry<Integer, Player>::getValue));
+        players.values().removeIf(Player::isDone);
         ++round;
     }
 
     private void killGameObject(GameObject gameObject) {
-        if (players .containsKey(gameObject.ownerId)) {
-            Player player = players.get(gameObject.ownerId);
-            player = player.removeGameObject(gameObject);
-            players = updatePlayer(player);
-        }
+        Player player = getPlayer(gameObject.ownerId);
+        if (player != null) player.removeGameObject(gameObject);
         gameMap.removeGameObject(gameObject);
     }
 
     public void wipePlayerArmy(Player player) {
-        player.getUnits().forEach(gameMap::removeGameObject);
-        player.getUnits().clear();
-        gameMap.recountDefenceCoverage(players);
+        for (Unit unit : player.getUnits()) {
+            gameMap.removeGameObject(unit);
+        }
+        player.removeUnits();
     }
 
     public void createCapitalArea(Player player, int x, int y) {
-        Capital capital = new Capital(gameMap, null, player);
-        Player newPlayer = player.addGameObject(capital);
+        Player owner = getPlayer(player.id);
+        Capital capital = new Capital(gameMap, null, owner);
+        owner.addGameObject(capital);
 
-        players = updatePlayer(newPlayer);
-        recountPlayerTerritory(gameMap.setGameObject(capital, x, y));
-        int cnt = gameMap.createCapitalArea(capital);
-        players = updatePlayer(players.get(newPlayer.id).addTerritory(cnt));
+        recountPlayerTerritory(gameMap.setGameObject(capital, x, y), owner.id);
+        owner.addTerritory(gameMap.createCapitalArea(capital));
     }
 
 
     public void placeNewGameObjectOnCell(GameObject gameObject, int x, int y) {
-        MapCell placeTo = gameMap.getCell(x, y);
-        if (placeTo.getGameObject() != null) {
-            killGameObject(placeTo.getGameObject());
+        GameObject placed = gameMap.getGameObject(x, y);
+        if (placed != null) {
+            killGameObject(placed);
         }
 
-        Player newPlayer = players.get(gameObject.ownerId).addGameObject(gameObject);
-        players = updatePlayer(newPlayer);
-        recountPlayerTerritory(gameMap.setGameObject(gameObject, x, y));
-
-        gameMap.recountDefenceCoverage(players);
+        getPlayer(gameObject.ownerId).addGameObject(gameObject);
+        recountPlayerTerritory(gameMap.setGameObject(gameObject, x, y), gameObject.ownerId);
     }
 
     public void moveUnit(Unit unit, int x, int y) {
-        MapCell moveTo = gameMap.getCell(x, y);
-
-        if (moveTo == null) return;
-        if (!unit.canMove(moveTo)) return;
+        if (!gameMap.contains(x, y)) return;
+        if (!unit.canMove(x, y)) return;
 
-        if (moveTo.getGameObject() != null) {
-            killGameObject(moveTo.getGameObject());
+        GameObject placed = gameMap.getGameObject(x, y);
+        if (placed != null) {
+            killGameObject(placed);
         }
 
         if (unit.getPlacement() != null) {
             gameMap.removeGameObject(unit);
         }
 
-        recountPlayerTerritory(gameMap.setGameObject(unit, x, y));
-        gameMap.recountDefenceCoverage(players);
+        recountPlayerTerritory(gameMap.setGameObject(unit, x, y), unit.ownerId);
 
         unit.setMoved(true);
     }
 
-    private void recountPlayerTerritory(int[] ids) {
-        if (ids[0] == ids[1]) return;
-        if(ids[0]!=-1)players = updatePlayer(players.get(ids[0]).removeTerritory(1));
-        players = updatePlayer(players.get(ids[1]).addTerritory(1));
+    /**
+     * moves a cell from the territory of its previous owner to the one of its new owner
+     */
+    private void recountPlayerTerritory(int previousOwnerId, int ownerId) {
+        if (previousOwnerId == ownerId) return;
+        Player previousOwner = getPlayer(previousOwnerId);
+        if (previousOwner != null) previousOwner.removeTerritory(1);
+        getPlayer(ownerId).addTerritory(1);
     }
 
     private void nextPlayer() {
@@ -149,6 +153,7 @@ public class GamingProcess {
     }
 
     public TurnState nextTurn() {
+        gameMap.clearMovementRanges();
         nextPlayer();
         if (players.size() < 2) {
             insertGameIntoDB();
@@ -161,15 +166,12 @@ public class GamingProcess {
             return nextTurn();
         }
 
-        Map.Entry<Player, Boolean> res = player.countIncome();
-        player = res.getKey();
-        if (!res.getValue()) wipePlayerArmy(player);
+        boolean solvent = player.isSolvent();
+        player.countIncome();
+        if (!solvent) wipePlayerArmy(player);
 
         player.refreshUnits();
 
-        players = updatePlayer(player);
-        if (!res.getValue()) gameMap.recountDefenceCoverage(players);
-
         insertTurnInfoIntoDB(player, round);
 
         if (player.getCapital() == null) {
@@ -220,17 +222,14 @@ public class GamingProcess {
         }
     }
 
+    /**
+     * @return players still in the game, a read-only view that changes with the game
+     */
     public Map<Integer, Player> getPlayers() {
-        return new HashMap<>(players);
+        return Collections.unmodifiableMap(players);
     }
 
     public List<Integer> getTurnOrder() {
         return new ArrayList<>(turnOrder);
     }
-
-    private Map<Integer, Player> updatePlayer(Player player) {
-        Map<Integer, Player> newPlayers = new HashMap<>(players);
-        newPlayers.put(player.id, player);
-        return newPlayers;
-    }
 }
@@ -1,24 +1,32 @@
 package com.mygdx.game.model.gameobjects;
 
-import com.badlogic.gdx.maps.tiled.TiledMapTile;
 import com.mygdx.game.model.maps.CellType;
 import com.mygdx.game.model.maps.GameMap;
 import com.mygdx.game.model.maps.MapCell;
 import com.mygdx.game.model.players.Player;
 
+/**
+ * object on a cell of the map, its stats are the ones of its type in {@link GameObjectTypes}
+ */
 public abstract class GameObject {
     private final GameMap gameMap;
     private MapCell placement;
     public final int ownerId;
+    /**
+     * id of the type in {@link GameObjectTypes}
+     */
+    public final int type;
 
     public GameObject(
             GameMap gameMap,
             MapCell placement,
-            Player owner
+            Player owner,
+            int type
     ) {
         this.gameMap = gameMap;
         this.placement = placement;
         this.ownerId = owner.id;
+        this.type = type;
     }
 
     public GameMap getMap() {
@@ -34,8 +42,15 @@ public abstract class GameObject {
         placement.setGameObject(this);
         this.placement = placement;
     }
-    public abstract int getMoneyPerTurn();
-    public abstract int getDefence();
-    public abstract int getCost();
-    public abstract TiledMapTile getTile();
+    public final int getMoneyPerTurn() {
+        return GameObjectTypes.getMoneyPerTurn(type);
+    }
+
+    public final int getDefence() {
+        return GameObjectTypes.getDefence(type);
+    }
+
+    public final int getCost() {
+        return GameObjectTypes.getCost(type);
+    }
 }
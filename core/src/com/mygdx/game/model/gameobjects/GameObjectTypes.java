@@ -0,0 +1,165 @@
+package com.mygdx.game.model.gameobjects;
+
+import com.mygdx.game.ProjectVariables.BuildingSpec;
+import com.mygdx.game.ProjectVariables.UnitSpec;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Properties;
+
+/**
+ * <p>
+ * Stats of every type of {@link GameObject}, kept in arrays indexed by the type id, so reading a stat of an object
+ * is an array read instead of a virtual call.
+ * </p>
+ * <p>
+ * the stats start with the values of {@link UnitSpec} and {@link BuildingSpec} and can be overridden
+ * by {@link #load(Reader)} from lines like {@code knight.power=3}, so the balance changes without a rebuild
+ * </p>
+ */
+public final class GameObjectTypes {
+    public static final int
+            PEASANT = 0,
+            MILITIA = 1,
+            KNIGHT = 2,
+            PALADIN = 3,
+            FARM = 4,
+            TOWER = 5,
+            SUPER_TOWER = 6,
+            CAPITAL = 7;
+    /**
+     * name of the config file in the assets
+     */
+    public static final String FILE = "gameObjectTypes.properties";
+    /**
+     * largest defence of a type, the defence coverage of the map keeps {@value} levels per cell
+     */
+    public static final int MAX_DEFENCE = 10;
+
+    private static final String[] names = {"peasant", "militia", "knight", "paladin", "farm", "tower", "superTower", "capital"};
+    private static final String[] statNames = {"power", "distance", "defence", "cost", "additionalCost", "moneyPerTurn"};
+    private static final int POWER = 0, DISTANCE = 1, DEFENCE = 2, COST = 3, ADDITIONAL_COST = 4, MONEY_PER_TURN = 5;
+    /**
+     * smallest and largest value of every stat a config can set, money per turn is negative for upkeep
+     */
+    private static final int[] minValues = {0, 0, 0, 0, 0, Integer.MIN_VALUE};
+    private static final int[] maxValues = {Integer.MAX_VALUE, Integer.MAX_VALUE, MAX_DEFENCE, Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE};
+
+    /**
+     * stats[stat][type]
+     */
+    private static final int[][] stats = new int[statNames.length][names.length];
+    private static final int[] power = stats[POWER];
+    private static final int[] distance = stats[DISTANCE];
+    private static final int[] defence = stats[DEFENCE];
+    private static final int[] cost = stats[COST];
+    private static final int[] additionalCost = stats[ADDITIONAL_COST];
+    private static final int[] moneyPerTurn = stats[MONEY_PER_TURN];
+
+    static {
+        reset();
+    }
+
+    private GameObjectTypes() {
+    }
+
+    /**
+     * sets all stats back to the values of {@link UnitSpec} and {@link BuildingSpec}
+     */
+    public static void reset() {
+        unit(PEASANT, UnitSpec.peasantPower, UnitSpec.peasantDistance, UnitSpec.peasantDefence, UnitSpec.peasantCost, UnitSpec.peasantMoneyPerTurn);
+        unit(MILITIA, UnitSpec.militiaPower, UnitSpec.militiaDistance, UnitSpec.militiaDefence, UnitSpec.militiaCost, UnitSpec.militiaMoneyPerTurn);
+        unit(KNIGHT, UnitSpec.knightPower, UnitSpec.knightDistance, UnitSpec.knightDefence, UnitSpec.knightCost, UnitSpec.knightMoneyPerTurn);
+        unit(PALADIN, UnitSpec.paladinPower, UnitSpec.paladinDistance, UnitSpec.paladinDefence, UnitSpec.paladinCost, UnitSpec.paladinMoneyPerTurn);
+        building(FARM, BuildingSpec.farmDefence, BuildingSpec.defaultFarmCost, BuildingSpec.farmMoneyPerTurn);
+        additionalCost[FARM] = BuildingSpec.additionalFarmCost;
+        building(TOWER, BuildingSpec.towerDefence, BuildingSpec.towerCost, BuildingSpec.towerMoneyPerTurn);
+        building(SUPER_TOWER, BuildingSpec.superTowerDefence, BuildingSpec.superTowerCost, BuildingSpec.superTowerMoneyPerTurn);
+        building(CAPITAL, BuildingSpec.capitalDefence, BuildingSpec.capitalCost, BuildingSpec.capitalMoneyPerTurn);
+    }
+
+    /**
+     * overrides the stats named in the config, the others keep their values; the config is read into a copy
+     * of the stats and applied only once every line is valid, so a wrong config changes nothing
+     *
+     * @throws IllegalArgumentException if a line names an unknown type or stat or its value is not a number
+     *                                  or out of the range of the stat: defence in [0, {@link #MAX_DEFENCE}],
+     *                                  the others but money per turn not negative
+     */
+    public static void load(Reader config) throws IOException {
+        Properties properties = new Properties();
+        properties.load(config);
+        int[][] loaded = new int[stats.length][];
+        for (int stat = 0; stat < stats.length; ++stat) {
+            loaded[stat] = stats[stat].clone();
+        }
+        for (String key : properties.stringPropertyNames()) {
+            int dot = key.indexOf('.');
+            int type = dot < 0 ? -1 : indexOf(names, key.substring(0, dot));
+            int stat = dot < 0 ? -1 : indexOf(statNames, key.substring(dot + 1));
+            if (type < 0 || stat < 0) throw new IllegalArgumentException("Unknown game object stat: " + key);
+            int value;
+            try {
+                value = Integer.parseInt(properties.getProperty(key).trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Stat " + key + " is not a number: " + properties.getProperty(key), e);
+            }
+            if (value < minValues[stat] || value > maxValues[stat]) {
+                throw new IllegalArgumentException("Stat " + key + " is out of range: " + value);
+            }
+            loaded[stat][type] = value;
+        }
+        for (int stat = 0; stat < stats.length; ++stat) {
+            System.arraycopy(loaded[stat], 0, stats[stat], 0, names.length);
+        }
+    }
+
+    public static int getPower(int type) {
+        return power[type];
+    }
+
+    public static int getDistance(int type) {
+        return distance[type];
+    }
+
+    public static int getDefence(int type) {
+        return defence[type];
+    }
+
+    public static int getCost(int type) {
+        return cost[type];
+    }
+
+    /**
+     * @return cost added to the type for every object of it the player already has, only farms have it by default
+     */
+    public static int getAdditionalCost(int type) {
+        return additionalCost[type];
+    }
+
+    public static int getMoneyPerTurn(int type) {
+        return moneyPerTurn[type];
+    }
+
+    private static void unit(int type, int power, int distance, int defence, int cost, int moneyPerTurn) {
+        building(type, defence, cost, moneyPerTurn);
+        GameObjectTypes.power[type] = power;
+        GameObjectTypes.distance[type] = distance;
+    }
+
+    private static void building(int type, int defence, int cost, int moneyPerTurn) {
+        GameObjectTypes.power[type] = 0;
+        GameObjectTypes.distance[type] = 0;
+        GameObjectTypes.defence[type] = defence;
+        GameObjectTypes.cost[type] = cost;
+        GameObjectTypes.additionalCost[type] = 0;
+        GameObjectTypes.moneyPerTurn[type] = moneyPerTurn;
+    }
+
+    private static int indexOf(String[] array, String value) {
+        for (int i = 0; i < array.length; ++i) {
+            if (array[i].equals(value)) return i;
+        }
+        return -1;
+    }
+}
@@ -9,12 +9,14 @@ public abstract class Building extends GameObject {
     public Building(
             GameMap gameMap,
             MapCell placement,
-            Player owner
+            Player owner,
+            int type
     ){
         super(
                 gameMap,
                 placement,
-                owner
+                owner,
+                type
         );
     }
 }
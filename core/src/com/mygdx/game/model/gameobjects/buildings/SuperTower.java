@@ -1,9 +1,6 @@
 package com.mygdx.game.model.gameobjects.buildings;
 
-import static com.mygdx.game.ProjectVariables.*;
-import static com.mygdx.game.ProjectVariables.BuildingSpec.*;
-
-import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
+import com.mygdx.game.model.gameobjects.GameObjectTypes;
 import com.mygdx.game.model.maps.GameMap;
 import com.mygdx.game.model.maps.MapCell;
 import com.mygdx.game.model.players.Player;
@@ -17,27 +14,8 @@ public class SuperTower extends Building{
         super(
                 GameMap,
                 placement,
-                owner
+                owner,
+                GameObjectTypes.SUPER_TOWER
         );
     }
-
-    @Override
-    public int getMoneyPerTurn() {
-        return superTowerMoneyPerTurn;
-    }
-
-    @Override
-    public int getDefence() {
-        return superTowerDefence;
-    }
-
-    @Override
-    public StaticTiledMapTile getTile() {
-        return superTowerPic;
-    }
-
-    @Override
-    public int getCost() {
-        return superTowerCost;
-    }
 }
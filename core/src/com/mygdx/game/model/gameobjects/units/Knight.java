@@ -1,9 +1,6 @@
 package com.mygdx.game.model.gameobjects.units;
 
-import static com.mygdx.game.ProjectVariables.*;
-import static com.mygdx.game.ProjectVariables.UnitSpec.*;
-
-import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
+import com.mygdx.game.model.gameobjects.GameObjectTypes;
 import com.mygdx.game.model.maps.GameMap;
 import com.mygdx.game.model.maps.MapCell;
 import com.mygdx.game.model.players.Player;
@@ -17,37 +14,8 @@ public class Knight extends Unit {
         super(
                 GameMap,
                 placement,
-                owner
+                owner,
+                GameObjectTypes.KNIGHT
         );
     }
-
-    @Override
-    public int getPower() {
-        return knightPower;
-    }
-
-    @Override
-    public int getDistance() {
-        return knightDistance;
-    }
-
-    @Override
-    public int getMoneyPerTurn() {
-        return knightMoneyPerTurn;
-    }
-
-    @Override
-    public int getDefence() {
-        return knightDefence;
-    }
-
-    @Override
-    public StaticTiledMapTile getTile() {
-        return knightPic;
-    }
-
-    @Override
-    public int getCost() {
-        return knightCost;
-    }
 }
@@ -1,6 +1,7 @@
 package com.mygdx.game.model.gameobjects.units;
 
 import com.mygdx.game.model.gameobjects.GameObject;
+import com.mygdx.game.model.gameobjects.GameObjectTypes;
 import com.mygdx.game.model.maps.GameMap;
 import com.mygdx.game.model.maps.MapCell;
 import com.mygdx.game.model.players.Player;
@@ -10,25 +11,36 @@ public abstract class Unit extends GameObject {
     public Unit(
             GameMap GameMap,
             MapCell placement,
-            Player owner
+            Player owner,
+            int type
     ) {
         super(
                 GameMap,
                 placement,
-                owner
+                owner,
+                type
         );
         moved = false;
     }
 
-    public abstract int getPower();
+    public final int getPower() {
+        return GameObjectTypes.getPower(type);
+    }
 
-    public abstract int getDistance();
+    public final int getDistance() {
+        return GameObjectTypes.getDistance(type);
+    }
 
 
 
-    public boolean canMove(MapCell moveTo) {
-        if (moveTo.getOwnerId() == ownerId) return moveTo.getGameObject() == null;
-        return getPower() > moveTo.getDefence();
+    /**
+     * @return true if the unit can step on the cell (x, y) of its map: a free cell of its owner
+     * or a foreign cell with defence below its power
+     */
+    public boolean canMove(int x, int y) {
+        GameMap gameMap = getMap();
+        if (gameMap.getOwnerId(x, y) == ownerId) return gameMap.getGameObject(x, y) == null;
+        return getPower() > gameMap.getDefence(x, y);
     }
 
     public boolean isMoved() {
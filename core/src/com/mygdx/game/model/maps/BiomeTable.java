@@ -0,0 +1,93 @@
+package com.mygdx.game.model.maps;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>
+ * {@link CellType#defineBiom(double, double)} precomputed for elevation and humidity rounded to 3 decimal places.
+ * </p>
+ * <p>
+ * thousandths of elevation and of humidity are mapped to bands, values of a band have the same biomes for every
+ * value of the other axis, so the table is bands x bands instead of 1001 x 1001; the thresholds of defineBiom
+ * lie strictly inside [0, 1], so values out of it are clamped
+ * </p>
+ */
+final class BiomeTable {
+    private static final int UNITS = 1000;
+    private static final CellType[] cellTypes = CellType.values();
+
+    /**
+     * band of every thousandth of elevation, already multiplied by the number of humidity bands
+     */
+    private static final int[] elevationBands = new int[UNITS + 1];
+    private static final int[] humidityBands = new int[UNITS + 1];
+    private static final byte[] biomes;
+
+    static {
+        byte[][] grid = new byte[UNITS + 1][UNITS + 1];
+        for (int e = 0; e <= UNITS; ++e) {
+            for (int m = 0; m <= UNITS; ++m) {
+                grid[e][m] = (byte) CellType.defineBiom(e / (double) UNITS, m / (double) UNITS).ordinal();
+            }
+        }
+        byte[][] columns = new byte[UNITS + 1][UNITS + 1];
+        for (int e = 0; e <= UNITS; ++e) {
+            for (int m = 0; m <= UNITS; ++m) {
+                columns[m][e] = grid[e][m];
+            }
+        }
+        List<byte[]> rows = bands(grid, elevationBands);
+        int humidityBandCount = bands(columns, humidityBands).size();
+        biomes = new byte[rows.size() * humidityBandCount];
+        for (int m = 0; m <= UNITS; ++m) {
+            for (int b = 0; b < rows.size(); ++b) {
+                biomes[b * humidityBandCount + humidityBands[m]] = rows.get(b)[m];
+            }
+        }
+        for (int e = 0; e <= UNITS; ++e) {
+            elevationBands[e] *= humidityBandCount;
+        }
+    }
+
+    private BiomeTable() {
+    }
+
+    /**
+     * @param elevation elevation rounded to 3 decimal places
+     * @param humidity  humidity rounded to 3 decimal places
+     * @return the same type as {@link CellType#defineBiom(double, double)}
+     */
+    static CellType get(double elevation, double humidity) {
+        return cellTypes[biomes[elevationBands[units(elevation)] + humidityBands[units(humidity)]]];
+    }
+
+    private static int units(double value) {
+        long units = Math.round(value * UNITS);
+        if (units < 0) return 0;
+        if (units > UNITS) return UNITS;
+        return (int) units;
+    }
+
+    /**
+     * numbers equal lines of lines in order of appearance
+     *
+     * @return distinct lines
+     */
+    private static List<byte[]> bands(byte[][] lines, int[] bands) {
+        List<byte[]> distinct = new ArrayList<>();
+        for (int i = 0; i < lines.length; ++i) {
+            int band = distinct.size();
+            for (int b = 0; b < distinct.size(); ++b) {
+                if (Arrays.equals(distinct.get(b), lines[i])) {
+                    band = b;
+                    break;
+                }
+            }
+            if (band == distinct.size()) distinct.add(lines[i]);
+            bands[i] = band;
+        }
+        return distinct;
+    }
+}
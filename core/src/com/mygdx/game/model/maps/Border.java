@@ -1,15 +1,5 @@
 package com.mygdx.game.model.maps;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.maps.tiled.TiledMapTile;
-import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
-import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
-
-import java.util.Arrays;
-import java.util.Optional;
-
 public enum Border {
     DEEP_PURPLE(
             0,
@@ -62,37 +52,29 @@ public enum Border {
             "yellow_side.png"
     );
     private static final String directory = "borders/";
+    private static final Border[] values = values();
     private final int num;
-    private final TiledMapTile top;
-    private final TiledMapTile side;
+    private final String top;
+    private final String side;
 
     Border(int n, String pathTop, String pathSide) {
         this.num = n;
-        this.top = new StaticTiledMapTile(new TextureRegion(new Texture(Gdx.files.internal(directory + pathTop))));
-        this.side = new StaticTiledMapTile(new TextureRegion(new Texture(Gdx.files.internal(directory + pathSide))));
+        this.top = directory + pathTop;
+        this.side = directory + pathSide;
     }
 
+    /**
+     * @return border number n, the numbers are the order of the constants
+     */
     public static Border get(int n) {
-        if (n < 0 || n > 9) return null;
-        Optional<Border> b= Arrays.stream(Border.values()).filter(border -> border.num == n).findFirst();
-        if(b.isEmpty()) return null;
-        return b.get();
-    }
-
-    public static void flipCell(TiledMapTileLayer.Cell cell, int neighbourNumber) {
-        switch (neighbourNumber) {
-            case 0 -> cell.setFlipHorizontally(true);
-            case 3, 4 -> cell.setFlipVertically(true);
-            case 5 -> {
-                cell.setFlipVertically(true);
-                cell.setFlipHorizontally(true);
-            }
-            default -> {
-            }
-        }
+        if (n < 0 || n >= values.length) return null;
+        return values[n];
     }
 
-    public TiledMapTile getTile(int neighbourNumber) {
+    /**
+     * @return internal path of the texture of the border with neighbour neighbourNumber
+     */
+    public String getTexture(int neighbourNumber) {
         if(neighbourNumber<0||neighbourNumber>5) return null;
         if (neighbourNumber == 1 || neighbourNumber == 4) return top;
         else return side;
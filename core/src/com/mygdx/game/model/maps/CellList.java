@@ -0,0 +1,19 @@
+package com.mygdx.game.model.maps;
+
+/**
+ * cells of a {@link GameMap} as a compact list of coordinates
+ */
+public interface CellList {
+    int size();
+
+    /**
+     * @param i number of the cell, from 0 to {@link #size()} - 1
+     * @return row of the cell i
+     */
+    int getX(int i);
+
+    /**
+     * @return column of the cell i
+     */
+    int getY(int i);
+}
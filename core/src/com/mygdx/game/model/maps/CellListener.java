@@ -0,0 +1,8 @@
+package com.mygdx.game.model.maps;
+
+/**
+ * gets told about changes of the owner, defence or object of cells of a {@link GameMap}
+ */
+public interface CellListener {
+    void cellChanged(int x, int y);
+}
@@ -0,0 +1,49 @@
+package com.mygdx.game.model.maps;
+
+import com.mygdx.game.model.gameobjects.GameObject;
+
+/**
+ * cells of a {@link GameMap}: generated up front by {@link MapCreator} or chunk by chunk by {@link ChunkedMapStorage}
+ */
+interface CellSource {
+    @FunctionalInterface
+    interface CellConsumer {
+        void accept(int x, int y);
+    }
+
+    /**
+     * @return cell (x,y), null if (x,y) out of map
+     */
+    MapCell getCell(int x, int y);
+
+    /**
+     * @return view of the cell (x,y) for an object placed on it, the same view on every call, (x,y) must be inside the map
+     */
+    MapCell getPlacement(int x, int y);
+
+    /**
+     * state of a cell read without creating a view, (x,y) must be inside the map
+     */
+    CellType getType(int x, int y);
+
+    int getOwnerId(int x, int y);
+
+    void setOwnerId(int x, int y, int ownerId);
+
+    int getDefence(int x, int y);
+
+    void setDefence(int x, int y, int defence);
+
+    GameObject getGameObject(int x, int y);
+
+    /**
+     * calls consumer for every cell that exists so far; cells that were never generated have no owner and no objects
+     */
+    void forEachCell(CellConsumer consumer);
+
+    int getWidth();
+
+    int getHeight();
+
+    long getSeed();
+}
@@ -1,11 +1,5 @@
 package com.mygdx.game.model.maps;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.maps.tiled.TiledMapTile;
-import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
-
 public enum CellType {
     UNDEFINED(null),
     LAND("sheepHex.png"),
@@ -15,15 +9,11 @@ public enum CellType {
     JUNGLE("woodHex.png"),
     CLAY("clayHex.png"),
     WHEAT("wheatHex.png");
-    private final TiledMapTile tile;
+    private final String texture;
     private static final String resourceCatalog = "pastel_resources_hex/rotat/";
 
     CellType(String tileTexturePath) {
-        if (tileTexturePath == null) {
-            this.tile = null;
-            return;
-        }
-        this.tile = new StaticTiledMapTile(new TextureRegion(new Texture(Gdx.files.internal(resourceCatalog + tileTexturePath))));
+        this.texture = tileTexturePath == null ? null : resourceCatalog + tileTexturePath;
     }
     public static CellType defineBiom(double e, double m) {
         if (e < 0.2) return CellType.BEACH;
@@ -54,8 +44,11 @@ public enum CellType {
         return CellType.LAND;
     }
 
-    public TiledMapTile tile() {
-        return this.tile;
+    /**
+     * @return internal path of the texture of the tile, null for undefined cells
+     */
+    public String texture() {
+        return this.texture;
     }
 }
 
@@ -0,0 +1,127 @@
+package com.mygdx.game.model.maps;
+
+import com.mygdx.game.model.players.Player;
+import com.mygdx.game.utils.BiomUtils;
+import com.mygdx.game.utils.HexBitboard;
+
+import static com.mygdx.game.model.maps.CellType.LAND;
+import static com.mygdx.game.model.maps.CellType.WATER;
+
+/**
+ * <p>
+ * Generates one chunk of a map from the seed without looking at any other chunk.
+ * </p>
+ * <p>
+ * Land is where a continent noise with a per-cell jitter is above a threshold, then the same
+ * {@link #SMOOTHING_PASSES} water removal passes as {@link MapCreator} are run on a {@link HexBitboard} of the chunk
+ * widened by an apron of one more cell than the passes, which covers all they can see. Biomes come from the elevation
+ * and humidity noise like in {@link MapCreator#view_Up(int)}, sampled at a fixed scale instead of a scale relative to the map size.
+ * </p>
+ * <p>
+ * Neither guarantee of {@link MapCreator} can be kept by a chunk that does not see the rest of the map: the land is
+ * not one continent grown from the centre, the map is islands of every size, and its land part is not checked,
+ * it is usually between 0.25 and 0.5 and not retried when it is out of that range.
+ * </p>
+ */
+class ChunkGenerator {
+    static final int SMOOTHING_PASSES = 7;
+    /**
+     * cells on each side of the chunk seen by the passes: one more than the passes, so the window starts
+     * at an even column of the map and the neighbours of its columns are the ones of the map columns
+     */
+    private static final int APRON = SMOOTHING_PASSES + 1;
+    private static final int WINDOW = ChunkedMapStorage.CHUNK_SIZE + 2 * APRON;
+    /**
+     * cells per unit of the biome noise: biomes keep the size they have on a 125x125 map
+     */
+    private static final double BIOME_PERIOD = 125;
+    private static final double CONTINENT_PERIOD = 40;
+    private static final double LAND_THRESHOLD = 0.1;
+    private static final double JITTER = 0.3;
+
+    private final int width, height;
+    private final long seed;
+    private final Perlin2D continentMap;
+    private final Perlin2D elevationMap;
+    private final Perlin2D humidityMap;
+    /**
+     * land of the window of the chunk being generated, reused by every chunk
+     */
+    private final HexBitboard land = new HexBitboard(WINDOW, WINDOW);
+    private final HexBitboard grown = new HexBitboard(WINDOW, WINDOW);
+    /**
+     * cells of the window on the map, only for windows reaching out of the map: the cells out of it stay water
+     */
+    private final HexBitboard inMap = new HexBitboard(WINDOW, WINDOW);
+
+    ChunkGenerator(int width, int height, long seed) {
+        this.width = width;
+        this.height = height;
+        this.seed = seed;
+        this.continentMap = new Perlin2D(seed + 4321);
+        this.elevationMap = new Perlin2D(seed);
+        this.humidityMap = new Perlin2D(seed + 1234);
+    }
+
+    /**
+     * fills chunk with the cells [x0, x0 + chunk.width) x [y0, y0 + chunk.height)
+     */
+    void generate(MapCellStorage chunk, int x0, int y0) {
+        int ax0 = x0 - APRON, ay0 = y0 - APRON;
+        boolean clipped = ax0 < 0 || ay0 < 0 || ax0 + WINDOW > width || ay0 + WINDOW > height;
+        land.clear();
+        if (clipped) inMap.clear();
+        for (int i = 0; i < WINDOW; ++i) {
+            int x = ax0 + i;
+            if (x < 0 || x >= width) continue;
+            for (int j = 0; j < WINDOW; ++j) {
+                int y = ay0 + j;
+                if (y < 0 || y >= height) continue;
+                if (clipped) inMap.set(i, j);
+                if (isLandSeed(x, y)) land.set(i, j);
+            }
+        }
+        for (int pass = 0; pass < SMOOTHING_PASSES; ++pass) {
+            grown.neighboursAtLeast(land, 4);
+            if (clipped) grown.and(inMap);
+            land.or(grown);
+        }
+
+        for (int i = 0; i < chunk.width; ++i) {
+            int x = x0 + i;
+            for (int j = 0; j < chunk.height; ++j) {
+                int y = y0 + j;
+                int index = chunk.index(i, j);
+                if (!land.get(x - ax0, y - ay0)) {
+                    chunk.setType(index, WATER);
+                    continue;
+                }
+                double e = BiomUtils.round(elevationMap.getNoise(x / BIOME_PERIOD, y / BIOME_PERIOD, 2, 0.1) + .5f, 3);
+                double m = BiomUtils.round(humidityMap.getNoise(x / BIOME_PERIOD, y / BIOME_PERIOD, 10, 0.1f) + .5f, 3);
+                chunk.setElevation(index, e);
+                chunk.setHumidity(index, m);
+                chunk.setType(index, BiomeTable.get(e, m));
+                chunk.setOwnerId(index, Player.NOBODY.id);
+            }
+        }
+    }
+
+    /**
+     * land/water of (x,y) before smoothing
+     */
+    boolean isLandSeed(int x, int y) {
+        double continent = continentMap.getNoise(x / CONTINENT_PERIOD, y / CONTINENT_PERIOD, 3, 0.5);
+        return continent + (jitter(x, y) - 0.5) * JITTER > LAND_THRESHOLD;
+    }
+
+    /**
+     * @return uniform value in [0, 1) that depends only on (x, y, seed)
+     */
+    private double jitter(int x, int y) {
+        long z = seed * 0xD1B54A32D192ED03L + x * 0x9E3779B97F4A7C15L + y * 0xC2B2AE3D27D4EB4FL;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z = z ^ (z >>> 31);
+        return (z >>> 11) * 0x1.0p-53;
+    }
+}
@@ -0,0 +1,172 @@
+package com.mygdx.game.model.maps;
+
+import com.mygdx.game.model.gameobjects.GameObject;
+
+/**
+ * <p>
+ * Map storage split into {@link #CHUNK_SIZE} x {@link #CHUNK_SIZE} chunks, every chunk is generated from the seed
+ * by {@link ChunkGenerator} on first access.
+ * </p>
+ * <p>
+ * Memory and generation time grow with the area that was actually accessed, not with the size of the map,
+ * and the cells of a chunk do not depend on which chunks were generated before it.
+ * </p>
+ */
+public class ChunkedMapStorage implements CellSource {
+    public static final int CHUNK_SIZE = 32;
+
+    interface ChunkListener {
+        /**
+         * the cells x0 <= x < x0 + width, y0 <= y < y0 + height were generated and can be read
+         */
+        void chunkGenerated(int x0, int y0, int width, int height);
+    }
+
+    private final int width, height;
+    private final int chunksX, chunksY;
+    private final long seed;
+    private final MapCellStorage[] chunks;
+    private final ChunkGenerator generator;
+    private final ChunkListener listener;
+    private int generatedChunks = 0;
+
+    public ChunkedMapStorage(int width, int height, long seed) throws IllegalArgumentException {
+        this(width, height, seed, (x0, y0, chunkWidth, chunkHeight) -> {
+        });
+    }
+
+    /**
+     * @param listener told about every chunk right after it was generated
+     */
+    ChunkedMapStorage(int width, int height, long seed, ChunkListener listener) throws IllegalArgumentException {
+        if (width < 10 || height < 10) throw new IllegalArgumentException("Too small map");
+        this.width = width;
+        this.height = height;
+        if (seed == -1) {
+            this.seed = (long) (Math.random() * 2000);
+        } else {
+            this.seed = seed;
+        }
+        this.chunksX = (width + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        this.chunksY = (height + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        this.chunks = new MapCellStorage[chunksX * chunksY];
+        this.generator = new ChunkGenerator(width, height, this.seed);
+        this.listener = listener;
+    }
+
+    @Override
+    public MapCell getCell(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) return null;
+        MapCellStorage chunk = chunk(x / CHUNK_SIZE, y / CHUNK_SIZE);
+        return chunk.view(chunk.index(x % CHUNK_SIZE, y % CHUNK_SIZE), x, y);
+    }
+
+    @Override
+    public MapCell getPlacement(int x, int y) {
+        MapCellStorage chunk = chunk(x / CHUNK_SIZE, y / CHUNK_SIZE);
+        return chunk.placement(chunk.index(x % CHUNK_SIZE, y % CHUNK_SIZE), x, y);
+    }
+
+    @Override
+    public CellType getType(int x, int y) {
+        MapCellStorage chunk = chunk(x / CHUNK_SIZE, y / CHUNK_SIZE);
+        return chunk.getType(chunk.index(x % CHUNK_SIZE, y % CHUNK_SIZE));
+    }
+
+    @Override
+    public int getOwnerId(int x, int y) {
+        MapCellStorage chunk = chunk(x / CHUNK_SIZE, y / CHUNK_SIZE);
+        return chunk.getOwnerId(chunk.index(x % CHUNK_SIZE, y % CHUNK_SIZE));
+    }
+
+    @Override
+    public void setOwnerId(int x, int y, int ownerId) {
+        MapCellStorage chunk = chunk(x / CHUNK_SIZE, y / CHUNK_SIZE);
+        chunk.setOwnerId(chunk.index(x % CHUNK_SIZE, y % CHUNK_SIZE), ownerId);
+    }
+
+    @Override
+    public int getDefence(int x, int y) {
+        MapCellStorage chunk = chunk(x / CHUNK_SIZE, y / CHUNK_SIZE);
+        return chunk.getDefence(chunk.index(x % CHUNK_SIZE, y % CHUNK_SIZE));
+    }
+
+    @Override
+    public void setDefence(int x, int y, int defence) {
+        MapCellStorage chunk = chunk(x / CHUNK_SIZE, y / CHUNK_SIZE);
+        chunk.setDefence(chunk.index(x % CHUNK_SIZE, y % CHUNK_SIZE), defence);
+    }
+
+    @Override
+    public GameObject getGameObject(int x, int y) {
+        MapCellStorage chunk = chunk(x / CHUNK_SIZE, y / CHUNK_SIZE);
+        return chunk.getGameObject(chunk.index(x % CHUNK_SIZE, y % CHUNK_SIZE));
+    }
+
+    /**
+     * @return storage of the chunk (cx, cy), generated if it is accessed for the first time
+     */
+    private MapCellStorage chunk(int cx, int cy) {
+        int index = cx * chunksY + cy;
+        MapCellStorage chunk = chunks[index];
+        if (chunk != null) return chunk;
+
+        int x0 = cx * CHUNK_SIZE, y0 = cy * CHUNK_SIZE;
+        chunk = new MapCellStorage(Math.min(CHUNK_SIZE, width - x0), Math.min(CHUNK_SIZE, height - y0));
+        generator.generate(chunk, x0, y0);
+        chunks[index] = chunk;
+        ++generatedChunks;
+        listener.chunkGenerated(x0, y0, chunk.width, chunk.height);
+        return chunk;
+    }
+
+    @Override
+    public void forEachCell(CellConsumer consumer) {
+        for (int cx = 0; cx < chunksX; ++cx) {
+            for (int cy = 0; cy < chunksY; ++cy) {
+                MapCellStorage chunk = chunks[cx * chunksY + cy];
+                if (chunk == null) continue;
+                for (int i = 0; i < chunk.width; ++i) {
+                    for (int j = 0; j < chunk.height; ++j) {
+                        consumer.accept(cx * CHUNK_SIZE + i, cy * CHUNK_SIZE + j);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * generates up to n x n chunks spread evenly over the map, one in the middle of every part of an n x n grid
+     */
+    public void generateSpread(int n) {
+        int nx = Math.min(n, chunksX), ny = Math.min(n, chunksY);
+        for (int i = 0; i < nx; ++i) {
+            for (int j = 0; j < ny; ++j) {
+                chunk((2 * i + 1) * chunksX / (2 * nx), (2 * j + 1) * chunksY / (2 * ny));
+            }
+        }
+    }
+
+    public boolean isGenerated(int x, int y) {
+        return chunks[(x / CHUNK_SIZE) * chunksY + y / CHUNK_SIZE] != null;
+    }
+
+    public int getGeneratedChunks() {
+        return generatedChunks;
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public long getSeed() {
+        return seed;
+    }
+}
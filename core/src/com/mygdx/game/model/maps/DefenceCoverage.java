@@ -0,0 +1,134 @@
+package com.mygdx.game.model.maps;
+
+import com.mygdx.game.model.gameobjects.GameObject;
+import com.mygdx.game.model.gameobjects.GameObjectTypes;
+import com.mygdx.game.utils.HexGrid;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Defence coverage of the cells of a {@link GameMap} kept up to date object by object.
+ * An object covers its own cell and the neighbouring cells of its owner with its defence,
+ * the defence of a cell is the largest defence covering it.
+ * </p>
+ * <p>
+ * every cell keeps how many objects cover it with every defence level, 3 bits per level packed into an int:
+ * a cell is covered by at most 7 objects, the one on it and the ones on its neighbours.
+ * Adding, removing an object or changing the owner of a cell touches at most 7 cells,
+ * and the resulting defence is written to the cell, so {@link MapCell#getDefence()} stays a plain read
+ * </p>
+ * <p>
+ * the counts are kept in blocks of {@link #BLOCK_SIZE} x {@link #BLOCK_SIZE} cells allocated on first cover,
+ * so the memory grows with the covered area, not with the size of the map
+ * </p>
+ */
+final class DefenceCoverage {
+    /**
+     * largest defence level of an object: 10 levels of 3 bits fit in an int
+     */
+    static final int MAX_DEFENCE = GameObjectTypes.MAX_DEFENCE;
+    private static final int BLOCK_SIZE = 32;
+    private static final int LEVEL_BITS = 3;
+
+    private final CellSource cells;
+    private final HexGrid grid;
+    private final CellListener listener;
+    private final int blocksY;
+    private final int[][] blocks;
+
+    /**
+     * @param listener told about every cell whose defence changed
+     */
+    DefenceCoverage(CellSource cells, HexGrid grid, CellListener listener) {
+        this.cells = cells;
+        this.grid = grid;
+        this.listener = listener;
+        this.blocksY = (grid.height + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        this.blocks = new int[(grid.width + BLOCK_SIZE - 1) / BLOCK_SIZE * blocksY][];
+    }
+
+    /**
+     * drops all coverage and sets the defence of every cell to 0
+     */
+    void clear() {
+        Arrays.fill(blocks, null);
+        cells.forEachCell((x, y) -> cells.setDefence(x, y, 0));
+    }
+
+    /**
+     * covers the cells of gameObject placed on (x, y)
+     */
+    void add(GameObject gameObject, int x, int y) {
+        update(gameObject, x, y, 1);
+    }
+
+    /**
+     * removes the coverage of gameObject placed on (x, y), the owners of the cells around must be the same as they
+     * were when it was added or changed through {@link #changeOwner(int, int, int, int)} since
+     */
+    void remove(GameObject gameObject, int x, int y) {
+        update(gameObject, x, y, -1);
+    }
+
+    /**
+     * moves the coverage of (x, y) from the objects around of oldOwnerId to the objects around of newOwnerId,
+     * the object on (x, y) itself covers it whoever owns it
+     */
+    void changeOwner(int x, int y, int oldOwnerId, int newOwnerId) {
+        if (oldOwnerId == newOwnerId) return;
+        int index = grid.index(x, y);
+        int[] offsets = grid.neighbourOffsets(x);
+        for (int k = 0; k < 6; ++k) {
+            int neighbour = index + offsets[k];
+            if (grid.isSentinel(neighbour)) continue;
+            GameObject gameObject = cells.getGameObject(grid.x(neighbour), grid.y(neighbour));
+            if (gameObject == null) continue;
+            if (gameObject.ownerId == oldOwnerId) cover(x, y, level(gameObject), -1);
+            if (gameObject.ownerId == newOwnerId) cover(x, y, level(gameObject), 1);
+        }
+    }
+
+    private void update(GameObject gameObject, int x, int y, int delta) {
+        int level = level(gameObject);
+        cover(x, y, level, delta);
+        int index = grid.index(x, y);
+        int[] offsets = grid.neighbourOffsets(x);
+        for (int k = 0; k < 6; ++k) {
+            int neighbour = index + offsets[k];
+            if (grid.isSentinel(neighbour)) continue;
+            int nx = grid.x(neighbour), ny = grid.y(neighbour);
+            if (cells.getOwnerId(nx, ny) == gameObject.ownerId) cover(nx, ny, level, delta);
+        }
+    }
+
+    private void cover(int x, int y, int level, int delta) {
+        if (level == 0) return;
+        int blockIndex = (x / BLOCK_SIZE) * blocksY + y / BLOCK_SIZE;
+        int[] block = blocks[blockIndex];
+        if (block == null) {
+            block = new int[BLOCK_SIZE * BLOCK_SIZE];
+            blocks[blockIndex] = block;
+        }
+        int i = (x % BLOCK_SIZE) * BLOCK_SIZE + y % BLOCK_SIZE;
+        block[i] += delta << LEVEL_BITS * (level - 1);
+        int defence = defence(block[i]);
+        if (defence == cells.getDefence(x, y)) return;
+        cells.setDefence(x, y, defence);
+        listener.cellChanged(x, y);
+    }
+
+    /**
+     * @return largest level with a non zero count
+     */
+    private static int defence(int counts) {
+        if (counts == 0) return 0;
+        return (31 - Integer.numberOfLeadingZeros(counts)) / LEVEL_BITS + 1;
+    }
+
+    private static int level(GameObject gameObject) {
+        int defence = GameObjectTypes.getDefence(gameObject.type);
+        if (defence > MAX_DEFENCE) throw new IllegalArgumentException("Defence above " + MAX_DEFENCE);
+        return Math.max(defence, 0);
+    }
+}
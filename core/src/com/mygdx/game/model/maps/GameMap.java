@@ -1,173 +1,389 @@
 package com.mygdx.game.model.maps;
 
-import com.badlogic.gdx.utils.Queue;
+import com.badlogic.gdx.utils.IntMap;
 import com.mygdx.game.model.gameobjects.GameObject;
 import com.mygdx.game.model.gameobjects.buildings.Building;
 import com.mygdx.game.model.gameobjects.buildings.Capital;
+import com.mygdx.game.model.gameobjects.buildings.Farm;
 import com.mygdx.game.model.gameobjects.units.Unit;
 import com.mygdx.game.model.players.Player;
-import com.mygdx.game.utils.Triple;
+import com.mygdx.game.utils.FloodFill;
+import com.mygdx.game.utils.HexGrid;
 
-import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.function.Consumer;
 
 import static com.mygdx.game.model.maps.CellType.WATER;
 
 public class GameMap {
-    private final MapCreator mapCreator;
+    /**
+     * maps with more cells are generated chunk by chunk on first access instead of up front; such maps do not have
+     * the central continent and the land part of {@link MapCreator}, see {@link ChunkGenerator}
+     */
+    public static final int EAGER_GENERATION_LIMIT = 125 * 125;
+    /**
+     * a chunked map offers the capitals the land of up to CAPITAL_CHUNKS x CAPITAL_CHUNKS chunks spread over it,
+     * see {@link #sampleCapitalLand()}
+     */
+    public static final int CAPITAL_CHUNKS = 8;
+
+    private final CellSource cells;
+    private final HexGrid grid;
+    private final DefenceCoverage coverage;
+    private final MovementRanges movementRanges;
+    /**
+     * told about every cell whose owner or object changed, e.g. the renderer of the map
+     */
+    private final List<CellListener> listeners = new ArrayList<>();
+
+    /**
+     * <p>
+     * territories of the owners asked for so far: a territory is collected from the cells on first request
+     * and then kept up to date by {@link #setOwnerId(int, int, int)}
+     * </p>
+     * <p>
+     * chunks of a chunked map that are not generated yet belong to nobody without being in the territory of nobody:
+     * it holds the generated cells only and grows as chunks are generated
+     * </p>
+     */
+    private final IntMap<Territory> territories = new IntMap<>();
+    private final int[] territoryPositions;
+
+    /**
+     * <p>
+     * movement ranges are filled in a window of (2 * radius + 2) x (2 * radius + 1) cells around the unit,
+     * so the fill does not depend on the size of the map; the window grows with the largest distance asked for
+     * </p>
+     * <p>
+     * the window starts at an even row, so its neighbour offsets are the ones of the map rows
+     * </p>
+     */
+    private FloodFill moveFill;
+    private int moveRadius = -1;
+    private int moveX0, moveY0, moveOwner, movePower;
+    private final FloodFill.Passability movePassability;
+    private final FloodFill.Expansion moveExpansion;
 
     public GameMap(int width, int height) throws IllegalArgumentException {
-        this.mapCreator = new MapCreator(width, height, 0, -1);
+        this(width, height, 0, -1);
     }
 
     public GameMap(int width, int height, int mode, long seed) {
-        this.mapCreator = new MapCreator(width, height, mode, seed);
+        if ((long) width * height > EAGER_GENERATION_LIMIT) {
+            this.cells = new ChunkedMapStorage(width, height, seed, this::chunkGenerated);
+        } else {
+            this.cells = new MapCreator(width, height, mode, seed);
+        }
+        this.grid = new HexGrid(width, height);
+        this.movementRanges = new MovementRanges(this);
+        this.coverage = new DefenceCoverage(cells, grid, movementRanges);
+        this.territoryPositions = new int[width * height];
+        this.movePassability = (from, to) -> {
+            if (moveFill.getGrid().isSentinel(to)) return false;
+            int x = toMapX(to), y = toMapY(to);
+            if (!grid.contains(x, y) || cells.getType(x, y) == WATER) return false;
+            return cells.getOwnerId(x, y) == moveOwner || cells.getDefence(x, y) < movePower;
+        };
+        this.moveExpansion = index -> cells.getOwnerId(toMapX(index), toMapY(index)) == moveOwner;
     }
 
+    /**
+     * @return view of the cell (x,y), null if (x,y) out of map; the state of one cell reads faster through
+     * {@link #getType(int, int)} and the other getters of (x,y), which make no view
+     */
     public MapCell getCell(int x, int y) {
-        return mapCreator.safeAccess(x, y);
+        return cells.getCell(x, y);
+    }
+
+    public boolean contains(int x, int y) {
+        return grid.contains(x, y);
+    }
+
+    /**
+     * state of the cell (x,y) read without a view, (x,y) must be inside the map
+     */
+    public CellType getType(int x, int y) {
+        return cells.getType(x, y);
+    }
+
+    public int getOwnerId(int x, int y) {
+        return cells.getOwnerId(x, y);
+    }
+
+    public int getDefence(int x, int y) {
+        return cells.getDefence(x, y);
+    }
+
+    public GameObject getGameObject(int x, int y) {
+        return cells.getGameObject(x, y);
     }
 
+    /**
+     * removes the object from its cell together with its defence coverage
+     */
     public void removeGameObject(GameObject gameObject) {
         MapCell cell = gameObject.getPlacement();
+        if (cell.getGameObject() == gameObject) coverage.remove(gameObject, cell.x, cell.y);
         cell.setGameObject(null);
+        cellChanged(cell.x, cell.y);
     }
 
-    public int[] setGameObject(GameObject gameObject, int x, int y) {
-        MapCell cell = mapCreator.safeAccess(x, y);
-        int[] res = new int[2];
-        res[0] = cell.getOwnerId();
-        res[1] = gameObject.ownerId;
+    /**
+     * places the object on (x, y), the cell passes to its owner and is covered with its defence
+     *
+     * @return previous owner of the cell, the new one is the owner of gameObject
+     */
+    public int setGameObject(GameObject gameObject, int x, int y) {
+        int previousOwnerId = cells.getOwnerId(x, y);
+        GameObject previous = cells.getGameObject(x, y);
+        if (previous != null) removeGameObject(previous);
+        MapCell cell = cells.getPlacement(x, y);
         cell.setGameObject(gameObject);
         gameObject.setPlacement(cell);
-        cell.setOwnerId(gameObject.ownerId);
-        return res;
+        setOwnerId(x, y, gameObject.ownerId);
+        if (cells.getGameObject(x, y) == gameObject) coverage.add(gameObject, x, y);
+        cellChanged(x, y);
+        return previousOwnerId;
     }
 
     public int[][] selectCellsToMove(int xValue, int yValue) {
-        int[][] mirror = new int[mapCreator.getWidth()][mapCreator.getHeight()];
+        FloodFill fill = reachableCells(xValue, yValue);
+        if (fill == null) return null;
+        int[][] mirror = new int[getWidth()][getHeight()];
         for (int[] row : mirror) {
             Arrays.fill(row, -1);
         }
-        MapCell startCell;
-        Unit unit;
-        try {
-            startCell = getCell(xValue, yValue);
-            unit = (Unit) startCell.getGameObject();
-        } catch (NullPointerException | ClassCastException e) {
-            return null;
-        }
-        Queue<Triple<Integer, Integer, Integer>> q = new Queue<>();
-        q.addFirst(Triple.triple(xValue, yValue, unit.getDistance()));
-        while (q.notEmpty()) {
-            Triple<Integer, Integer, Integer> t = q.removeLast();
-            int x = t.first;
-            int y = t.second;
-            int n = t.third;
-            MapCell cell = getCell(x, y);
-
-            boolean stop = false;
-            if (cell == null) continue;
-            if (cell.getType() == WATER) continue;
-            if (mirror[x][y] > 0) stop = true;
-            if (startCell.getOwnerId() != cell.getOwnerId()) {
-                if (cell.getDefence() >= unit.getPower()) continue;
-                stop = true;
-            }
-            mirror[x][y] = Math.max(mirror[x][y], n);
-
-            if (n <= 0 || stop) continue;
-            int[][] nb = MapCreator.getNeighbours(x);
-            for (int[] ints : nb) {
-                int dx = ints[0];
-                int dy = ints[1];
-                q.addFirst(Triple.triple(x + dx, y + dy, n - 1));
-            }
+        int distance = ((Unit) cells.getGameObject(xValue, yValue)).getDistance();
+        for (int i = 1; i < fill.getReachedCount(); ++i) {
+            int index = fill.getReached(i);
+            mirror[toMapX(index)][toMapY(index)] = distance - fill.getDistance(index);
         }
-        mirror[xValue][yValue] = -1;
         return mirror;
     }
 
-    public int[][] getPlayerTerritory(int playerId) {
-        int[][] territory = new int[getWidth()][getHeight()];
-        for (int[] row : territory) {
-            Arrays.fill(row, -1);
+    /**
+     * <p>
+     * cells the unit on (x, y) can move to as a list
+     * </p>
+     * <p>
+     * the range is kept until a cell its search read changes owner, defence or object through the map,
+     * so asking for it again costs nothing while the map around the unit stays the same
+     * </p>
+     *
+     * @return the range, null if there is no unit on (x, y)
+     */
+    public MovementRange getMovementRange(int x, int y) {
+        return movementRanges.get(x, y);
+    }
+
+    /**
+     * drops the kept movement ranges, e.g. at the start of a turn
+     */
+    public void clearMovementRanges() {
+        movementRanges.clear();
+    }
+
+    MovementRanges getMovementRanges() {
+        return movementRanges;
+    }
+
+    /**
+     * <p>
+     * fills the cells the unit on (x, y) can move to: the unit passes only through the cells of the owner of its cell
+     * and stops on the first foreign cell with defence below its power
+     * </p>
+     * <p>
+     * the returned fill is reused by the next call, its indices are indices of {@link FloodFill#getGrid()},
+     * a window whose cell (0, 0) is the cell (x0, y0) of the map, see {@link #toMapX(int)} and {@link #toMapY(int)};
+     * reached cell 0 is the unit itself
+     * </p>
+     *
+     * @return the fill, null if there is no unit on (x, y)
+     */
+    public FloodFill reachableCells(int x, int y) {
+        if (!grid.contains(x, y) || !(cells.getGameObject(x, y) instanceof Unit unit)) return null;
+        int distance = Math.max(unit.getDistance(), 0);
+        if (distance > moveRadius) {
+            moveRadius = distance;
+            moveFill = new FloodFill(new HexGrid(2 * distance + 2, 2 * distance + 1));
         }
-        for (int i = 0; i < getWidth(); ++i) {
-            for (int j = 0; j < getHeight(); ++j) {
-                if (mapCreator.getCells()[i][j].getOwnerId() == playerId) {
-                    territory[i][j] = 0;
-                }
-            }
+        moveX0 = (x - moveRadius) & ~1;
+        moveY0 = y - moveRadius;
+        moveOwner = cells.getOwnerId(x, y);
+        movePower = unit.getPower();
+        moveFill.fill(moveFill.getGrid().index(x - moveX0, y - moveY0), distance,
+                movePassability, moveExpansion, FloodFill.UNIT_COST);
+        return moveFill;
+    }
+
+    /**
+     * @return column on the map of an index of the last {@link #reachableCells(int, int)} fill
+     */
+    public int toMapX(int index) {
+        return moveX0 + moveFill.getGrid().x(index);
+    }
+
+    /**
+     * @return row on the map of an index of the last {@link #reachableCells(int, int)} fill
+     */
+    public int toMapY(int index) {
+        return moveY0 + moveFill.getGrid().y(index);
+    }
+
+    /**
+     * @return cells of ownerId, a view that follows the changes of ownership made through the map;
+     * on a chunked map the territory of nobody holds only the land of the chunks generated so far
+     */
+    public Territory getTerritory(int ownerId) {
+        Territory territory = territories.get(ownerId);
+        if (territory == null) {
+            Territory res = new Territory(ownerId, getWidth(), getHeight(), territoryPositions);
+            cells.forEachCell((x, y) -> {
+                if (cells.getOwnerId(x, y) == ownerId) res.add(x, y);
+            });
+            territories.put(ownerId, res);
+            territory = res;
         }
         return territory;
     }
 
+    /**
+     * generates a spread of {@link #CAPITAL_CHUNKS} x {@link #CAPITAL_CHUNKS} chunks of a chunked map, so the
+     * territory of nobody has land for the capitals all over the map without generating the whole map;
+     * a map generated up front has all its land already
+     */
+    public void sampleCapitalLand() {
+        if (cells instanceof ChunkedMapStorage chunked) chunked.generateSpread(CAPITAL_CHUNKS);
+    }
 
-    public void recountDefenceCoverage(Map<Integer, Player> playerList) {
-        for (int i = 0; i < getWidth(); ++i) {
-            for (int j = 0; j < getHeight(); ++j) {
-                getCell(i, j).setDefence(0);
+    /**
+     * adds the land of a chunk generated just now to the territory of nobody, if it is kept
+     */
+    private void chunkGenerated(int x0, int y0, int width, int height) {
+        Territory nobody = territories.get(Player.NOBODY.id);
+        if (nobody == null) return;
+        for (int x = x0; x < x0 + width; ++x) {
+            for (int y = y0; y < y0 + height; ++y) {
+                if (cells.getOwnerId(x, y) == Player.NOBODY.id) nobody.add(x, y);
             }
         }
+    }
+
+    /**
+     * passes the cell (x, y) to ownerId, moving it between the territories and the defence coverage of the owners
+     */
+    public void setOwnerId(int x, int y, int ownerId) {
+        int oldOwnerId = cells.getOwnerId(x, y);
+        if (oldOwnerId == ownerId) return;
+        coverage.changeOwner(x, y, oldOwnerId, ownerId);
+        cells.setOwnerId(x, y, ownerId);
+        Territory territory = territories.get(oldOwnerId);
+        if (territory != null) territory.remove(x, y);
+        territory = territories.get(ownerId);
+        if (territory != null) territory.add(x, y);
+        cellChanged(x, y);
+    }
+
+    /**
+     * listener is told about every cell whose owner or object changes through the map from now on
+     */
+    public void addCellListener(CellListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeCellListener(CellListener listener) {
+        listeners.remove(listener);
+    }
+
+    private void cellChanged(int x, int y) {
+        movementRanges.cellChanged(x, y);
+        for (int i = 0; i < listeners.size(); ++i) {
+            listeners.get(i).cellChanged(x, y);
+        }
+    }
+
+
+    /**
+     * <p>
+     * rebuilds the defence of every cell from the objects of the players
+     * </p>
+     * <p>
+     * the coverage is kept up to date by {@link #setGameObject(GameObject, int, int)},
+     * {@link #removeGameObject(GameObject)} and {@link #createCapitalArea(Capital)}, so this is needed only
+     * when objects and owners were changed bypassing them
+     * </p>
+     */
+    public void recountDefenceCoverage(Map<Integer, Player> playerList) {
+        coverage.clear();
+        movementRanges.clear();
         for (Player player : playerList.values()) {
             for (Building building : player.getBuildings()) {
                 countGameObjectCoverage(building);
             }
+            for (Farm farm : player.getFarms()) {
+                countGameObjectCoverage(farm);
+            }
             for (Unit unit : player.getUnits()) {
                 countGameObjectCoverage(unit);
             }
-            if (player.getCapital() != null)
+            if (player.getCapital() != null && !player.getBuildings().contains(player.getCapital()))
                 countGameObjectCoverage(player.getCapital());
         }
     }
 
+    /**
+     * counts every object once and only if it is on its cell, as the incremental coverage does
+     */
     private void countGameObjectCoverage(GameObject gameObject) {
-        processNeighbours(cell -> {
-            if (cell == null || cell.getOwnerId() != gameObject.ownerId) return;
-            cell.setDefence(Math.max(cell.getDefence(), gameObject.getDefence()));
-        }, gameObject.getPlacement());
         MapCell cell = gameObject.getPlacement();
-        cell.setDefence(Math.max(cell.getDefence(), gameObject.getDefence()));
+        if (cell == null || cell.getGameObject() != gameObject) return;
+        coverage.add(gameObject, cell.x, cell.y);
     }
 
+    /**
+     * passes the cells of nobody around the capital to its owner
+     *
+     * @return number of cells passed
+     */
     public int createCapitalArea(Capital capital) {
-        var ref = new Object() {
-            int cnt = 0;
-        };
-        processNeighbours(cell -> {
-            if (cell == null) return;
-            if (cell.getType() != CellType.WATER && cell.getOwnerId() == Player.NOBODY.id) {
-                cell.setOwnerId(capital.ownerId);
-                ++ref.cnt;
+        MapCell placement = capital.getPlacement();
+        int index = grid.index(placement.x, placement.y);
+        int[] offsets = grid.neighbourOffsets(placement.x);
+        int cnt = 0;
+        for (int k = 0; k < 6; ++k) {
+            int neighbour = index + offsets[k];
+            if (grid.isSentinel(neighbour)) continue;
+            int x = grid.x(neighbour), y = grid.y(neighbour);
+            if (cells.getType(x, y) != WATER && cells.getOwnerId(x, y) == Player.NOBODY.id) {
+                setOwnerId(x, y, capital.ownerId);
+                ++cnt;
             }
-        }, capital.getPlacement());
-        return ref.cnt;
-    }
-
-    private void processNeighbours(Consumer<MapCell> consumer, MapCell start) {
-        int[][] nb = MapCreator.getNeighbours(start.x);
-        for (int i = 0; i < 6; ++i) {
-            int dx = nb[i][0];
-            int dy = nb[i][1];
-
-            MapCell cell = getCell(start.x + dx, start.y + dy);
-            consumer.accept(cell);
         }
+        return cnt;
     }
 
     public int getWidth() {
-        return mapCreator.getWidth();
+        return cells.getWidth();
     }
 
     public int getHeight() {
-        return mapCreator.getHeight();
+        return cells.getHeight();
+    }
+
+    public HexGrid getGrid() {
+        return grid;
+    }
+
+    public long getSeed() {
+        return cells.getSeed();
     }
 
+    /**
+     * @return generator of the map, null if the map is generated chunk by chunk
+     */
     public MapCreator getMapCreator() {
-        return mapCreator;
+        return cells instanceof MapCreator mapCreator ? mapCreator : null;
     }
 }
@@ -0,0 +1,112 @@
+package com.mygdx.game.model.maps;
+
+import com.mygdx.game.utils.FloodFill;
+
+import static com.mygdx.game.model.maps.CellType.MOUNTAIN;
+import static com.mygdx.game.model.maps.CellType.UNDEFINED;
+import static com.mygdx.game.model.maps.CellType.WATER;
+
+/**
+ * <p>
+ * Region of a biome patch: the cells that can be reached from the centre in at most radius steps
+ * without stepping on water or mountains.
+ * </p>
+ * <p>
+ * the region is walked ring by ring with a bounded {@link FloodFill}, so every cell is visited once and
+ * the count, sums, minimums and maximums of elevation and humidity are gathered in the same pass
+ * </p>
+ */
+final class HexRegion {
+    private final MapCellStorage storage;
+    private final FloodFill fill;
+    private final FloodFill.Passability passability;
+
+    private int count;
+    private double elevationSum, humiditySum;
+    private double minElevation, maxElevation, minHumidity, maxHumidity;
+
+    /**
+     * @param fill fill over the grid of storage, shared with other stages that do not run at the same time
+     */
+    HexRegion(MapCellStorage storage, FloodFill fill) {
+        this.storage = storage;
+        this.fill = fill;
+        this.passability = (from, to) -> isPassable(to);
+    }
+
+    /**
+     * collects the region around (x, y)
+     *
+     * @return number of cells of the region, 0 if (x, y) itself is water or mountain
+     */
+    int aggregate(int x, int y, int radius) {
+        count = 0;
+        elevationSum = humiditySum = 0;
+        minElevation = minHumidity = Double.POSITIVE_INFINITY;
+        maxElevation = maxHumidity = Double.NEGATIVE_INFINITY;
+
+        int centre = storage.index(x, y);
+        if (!isPassable(centre)) return 0;
+        fill.fill(centre, radius, passability, FloodFill.ALWAYS, FloodFill.UNIT_COST);
+        for (int i = 0; i < fill.getReachedCount(); ++i) {
+            int index = fill.getReached(i);
+            double elevation = storage.getElevation(index), humidity = storage.getHumidity(index);
+            elevationSum += elevation;
+            humiditySum += humidity;
+            minElevation = Math.min(minElevation, elevation);
+            maxElevation = Math.max(maxElevation, elevation);
+            minHumidity = Math.min(minHumidity, humidity);
+            maxHumidity = Math.max(maxHumidity, humidity);
+        }
+        count = fill.getReachedCount();
+        return count;
+    }
+
+    int getCount() {
+        return count;
+    }
+
+    /**
+     * @param i number of the cell, from 0 to {@link #getCount()} - 1, cell 0 is the centre, then ring by ring
+     * @return storage index of the cell
+     */
+    int getIndex(int i) {
+        return fill.getReached(i);
+    }
+
+    /**
+     * @return number of steps from the centre to the cell i
+     */
+    int getDistance(int i) {
+        return fill.getDistance(fill.getReached(i));
+    }
+
+    double getMeanElevation() {
+        return elevationSum / count;
+    }
+
+    double getMeanHumidity() {
+        return humiditySum / count;
+    }
+
+    double getMinElevation() {
+        return minElevation;
+    }
+
+    double getMaxElevation() {
+        return maxElevation;
+    }
+
+    double getMinHumidity() {
+        return minHumidity;
+    }
+
+    double getMaxHumidity() {
+        return maxHumidity;
+    }
+
+    private boolean isPassable(int index) {
+        CellType type = storage.getType(index);
+        return type != WATER && type != MOUNTAIN && type != UNDEFINED;
+    }
+}
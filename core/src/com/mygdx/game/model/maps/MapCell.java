@@ -2,85 +2,95 @@ package com.mygdx.game.model.maps;
 
 
 import com.mygdx.game.model.gameobjects.GameObject;
-import com.mygdx.game.model.players.Player;
 
+/**
+ * view of one cell of a {@link MapCellStorage}; views of the same cell share their state
+ */
 public class MapCell {
-    private CellType type;
-    private double elevation;
-    private double humidity;
-    private int defence;
+    private final MapCellStorage storage;
+    private final int index;
     public final int x, y;
-    private int ownerId;
-    private GameObject gameObject;
 
     public MapCell(int x, int y) {
-        this.type = CellType.UNDEFINED;
-        this.elevation = -1;
-        this.humidity = -1;
-        this.x = x;
-        this.y = y;
+        this(new MapCellStorage(1, 1), 0, x, y);
     }
 
-    public MapCell(MapCell mapCell){
-        this.type = mapCell.type;
-        this.elevation = mapCell.elevation;
-        this.humidity = mapCell.humidity;
-        this.defence = mapCell.defence;
-        this.x = mapCell.x;
-        this.y = mapCell.y;
-        this.ownerId = mapCell.ownerId;
-        this.gameObject = mapCell.gameObject;
+    public MapCell(MapCell mapCell) {
+        this(mapCell.x, mapCell.y);
+        storage.setType(0, mapCell.getType());
+        storage.setElevation(0, mapCell.getElevation());
+        storage.setHumidity(0, mapCell.getHumidity());
+        storage.setDefence(0, mapCell.getDefence());
+        storage.setOwnerId(0, mapCell.getOwnerId());
+        storage.setGameObject(0, mapCell.getGameObject());
+    }
+
+    MapCell(MapCellStorage storage, int index, int x, int y) {
+        this.storage = storage;
+        this.index = index;
+        this.x = x;
+        this.y = y;
     }
 
     public double getHumidity() {
-        return humidity;
+        return storage.getHumidity(index);
     }
 
     public double getElevation() {
-        return elevation;
+        return storage.getElevation(index);
     }
 
     public CellType getType() {
-        return type;
+        return storage.getType(index);
     }
 
     public int getOwnerId() {
-        return ownerId;
+        return storage.getOwnerId(index);
     }
 
     public int getDefence() {
-        return defence;
+        return storage.getDefence(index);
     }
 
     public GameObject getGameObject() {
-        return gameObject;
+        return storage.getGameObject(index);
     }
 
     public void setGameObject(GameObject gameObject) {
-        if (type == CellType.WATER) return;
-        this.gameObject = gameObject;
+        if (getType() == CellType.WATER) return;
+        storage.setGameObject(index, gameObject);
     }
 
     public void setDefence(int defence) {
-        this.defence = defence;
+        storage.setDefence(index, defence);
     }
 
     public void setHumidity(double humidity) {
-        this.humidity = humidity;
+        storage.setHumidity(index, humidity);
     }
 
     public void setElevation(double elevation) {
-        this.elevation = elevation;
+        storage.setElevation(index, elevation);
     }
 
     public void setType(CellType type) {
         if (type == CellType.UNDEFINED) return;
-        this.type = type;
+        storage.setType(index, type);
     }
 
     public void setOwnerId(int ownerId) {
-//        if (this.ownerId != null) this.ownerId.removeTerritory();
-        this.ownerId = ownerId;
-//        this.ownerId.addTerritory();
+        storage.setOwnerId(index, ownerId);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MapCell cell)) return false;
+        return storage == cell.storage && index == cell.index;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * x + y;
     }
 }
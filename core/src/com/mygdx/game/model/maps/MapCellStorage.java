@@ -0,0 +1,187 @@
+package com.mygdx.game.model.maps;
+
+import com.badlogic.gdx.utils.IntMap;
+import com.mygdx.game.model.gameobjects.GameObject;
+import com.mygdx.game.utils.HexBitboard;
+import com.mygdx.game.utils.HexGrid;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * State of all cells of a map kept in flat primitive arrays indexed by {@link #index(int, int)}.
+ * {@link MapCell} is only a view over one index of the storage.
+ * </p>
+ * <p>
+ * the arrays follow the indexing of {@link #grid}, so the sentinels around the map have undefined type
+ * and neighbour walks can read them without bounds checks
+ * </p>
+ * <p>
+ * elevation and humidity are kept quantised to 3 decimal places, which is the precision the generator rounds them to
+ * </p>
+ */
+public class MapCellStorage {
+    private static final CellType[] cellTypes = CellType.values();
+    private static final double QUANTUM = 1000;
+
+    public final int width, height;
+    public final HexGrid grid;
+    private final byte[] types;
+    private final short[] elevations;
+    private final short[] humidities;
+    private final int[] owners;
+    private final byte[] defences;
+    private final GameObject[] gameObjects;
+    /**
+     * views of the cells objects were placed on, see {@link #placement(int, int, int)}
+     */
+    private final IntMap<MapCell> placements = new IntMap<>();
+
+    public MapCellStorage(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.grid = new HexGrid(width, height);
+        int size = grid.size;
+        types = new byte[size];
+        elevations = new short[size];
+        humidities = new short[size];
+        owners = new int[size];
+        defences = new byte[size];
+        gameObjects = new GameObject[size];
+        clear();
+    }
+
+    /**
+     * resets every cell to the state of a new cell: undefined type, elevation and humidity -1, no owner, no object
+     */
+    public void clear() {
+        Arrays.fill(types, (byte) CellType.UNDEFINED.ordinal());
+        Arrays.fill(elevations, quantise(-1));
+        Arrays.fill(humidities, quantise(-1));
+        Arrays.fill(owners, 0);
+        Arrays.fill(defences, (byte) 0);
+        Arrays.fill(gameObjects, null);
+        placements.clear();
+    }
+
+    public boolean contains(int x, int y) {
+        return grid.contains(x, y);
+    }
+
+    public int index(int x, int y) {
+        return grid.index(x, y);
+    }
+
+    /**
+     * @return view of the cell (x,y), null if (x,y) out of map
+     */
+    public MapCell cell(int x, int y) {
+        if (!contains(x, y)) return null;
+        return view(index(x, y), x, y);
+    }
+
+    /**
+     * @param x column of the cell on the map, which differs from the one in the storage for a chunk
+     * @param y row of the cell on the map
+     * @return the kept view of the cell at index if an object was placed on it, a new view otherwise
+     */
+    MapCell view(int index, int x, int y) {
+        MapCell view = placements.get(index);
+        return view != null ? view : new MapCell(this, index, x, y);
+    }
+
+    /**
+     * <p>
+     * view of the cell at index for an object placed on it, kept for the objects placed on the cell later
+     * </p>
+     * <p>
+     * an object refers to the view of its cell, so units moving back and forth and buildings replacing each other
+     * reuse the views of the cells they were on; the cells that never had an object keep no view,
+     * so a walk over the whole map leaves nothing behind
+     * </p>
+     */
+    MapCell placement(int index, int x, int y) {
+        MapCell view = placements.get(index);
+        if (view == null) {
+            view = new MapCell(this, index, x, y);
+            placements.put(index, view);
+        }
+        return view;
+    }
+
+    /**
+     * calls consumer for every cell of the storage, with the coordinates of the storage
+     */
+    void forEachCell(CellSource.CellConsumer consumer) {
+        for (int x = 0; x < width; ++x) {
+            for (int y = 0; y < height; ++y) {
+                consumer.accept(x, y);
+            }
+        }
+    }
+
+    /**
+     * replaces the cells of mask with the cells of the given type, e.g. the mask of water negated is all land
+     */
+    public void typeMask(CellType type, HexBitboard mask) {
+        mask.clear();
+        byte ordinal = (byte) type.ordinal();
+        for (int x = 0; x < width; ++x) {
+            for (int y = 0; y < height; ++y) {
+                if (types[index(x, y)] == ordinal) mask.set(x, y);
+            }
+        }
+    }
+
+    public CellType getType(int index) {
+        return cellTypes[types[index]];
+    }
+
+    public void setType(int index, CellType type) {
+        types[index] = (byte) type.ordinal();
+    }
+
+    public double getElevation(int index) {
+        return elevations[index] / QUANTUM;
+    }
+
+    public void setElevation(int index, double elevation) {
+        elevations[index] = quantise(elevation);
+    }
+
+    public double getHumidity(int index) {
+        return humidities[index] / QUANTUM;
+    }
+
+    public void setHumidity(int index, double humidity) {
+        humidities[index] = quantise(humidity);
+    }
+
+    public int getOwnerId(int index) {
+        return owners[index];
+    }
+
+    public void setOwnerId(int index, int ownerId) {
+        owners[index] = ownerId;
+    }
+
+    public int getDefence(int index) {
+        return defences[index];
+    }
+
+    public void setDefence(int index, int defence) {
+        defences[index] = (byte) defence;
+    }
+
+    public GameObject getGameObject(int index) {
+        return gameObjects[index];
+    }
+
+    public void setGameObject(int index, GameObject gameObject) {
+        gameObjects[index] = gameObject;
+    }
+
+    private static short quantise(double value) {
+        return (short) Math.round(value * QUANTUM);
+    }
+}
@@ -1,36 +1,51 @@
 package com.mygdx.game.model.maps;
 
-import com.badlogic.gdx.utils.Queue;
+import com.mygdx.game.model.gameobjects.GameObject;
 import com.mygdx.game.model.players.Player;
 import com.mygdx.game.utils.BiomUtils;
-import com.mygdx.game.utils.Pair;
+import com.mygdx.game.utils.FloodFill;
+import com.mygdx.game.utils.HexBitboard;
+import com.mygdx.game.utils.HexGrid;
 
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
 
 import static com.mygdx.game.model.maps.CellType.*;
 
-public class MapCreator {
+public class MapCreator implements CellSource {
     /**
-     * <p>
-     * coordinates of neighbour cells to current cell<br>
-     * column with number i:<br> odd <=> (i & 1) = 1<br> even <=> (i & 0) = 0
-     * </p>
-     * <p>
-     * pairs{row dif,column dif}
-     * </p>
+     * @see HexGrid#getNeighbours(int)
      */
-    private static final int[][]
-            neighbourodd = {{1, 0}, {0, 1}, {-1, 0}, {-1, -1}, {0, -1}, {1, -1}},
-            neighboureven = {{1, 1}, {0, 1}, {-1, 1}, {-1, 0}, {0, -1}, {1, 0}};
-
     public static int[][] getNeighbours(int x) {
-        if ((x & 1) == 0) return neighboureven;
-        return neighbourodd;
+        return HexGrid.getNeighbours(x);
     }
 
-    private final Random random;
-    private final MapCell[][] cells;
+    /**
+     * stream for the sequential stages (biome patches)
+     */
+    private final SplittableRandom random;
+    /**
+     * parent of the per-attempt streams of the land/water stage
+     */
+    private final SplittableRandom landRandom;
+    private final MapRegions regions;
+    /**
+     * random stream of every region for the current attempt of the land/water stage
+     */
+    private final SplittableRandom[] landStreams;
+    private final MapCellStorage storage;
+    /**
+     * land/water coin of every cell for the current attempt by grid index, true means land; sentinels are water
+     */
+    private final boolean[] landCoins;
+    private final FloodFill landFill;
+    private final FloodFill.Passability landPassability;
+    /**
+     * land of the land/water stage, the stage works on bitboards and writes the cells once at the end
+     */
+    private final HexBitboard land, grown;
     private final long seed;
     private final int mode;
 
@@ -39,10 +54,22 @@ public class MapCreator {
     private double persistence = 0.1;
 
     private final java.util.Map<String, Integer> statInfo = new HashMap<>();
+    /**
+     * attempts of the land/water stage and the time each one took, in nanoseconds
+     */
+    private int attempts = 0;
+    private long[] attemptNanos = new long[8];
 
     private final int width, height;
 
     public MapCreator(int width, int height, int mode, long seed) throws IllegalArgumentException {
+        this(width, height, mode, seed, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param pool pool to run the generation stages on; the generated map does not depend on its parallelism
+     */
+    public MapCreator(int width, int height, int mode, long seed, ForkJoinPool pool) throws IllegalArgumentException {
         if (width < 10 || height < 10) throw new IllegalArgumentException("Too small map");
         this.width = width;
         this.height = height;
@@ -52,279 +79,183 @@ public class MapCreator {
         } else {
             this.seed = seed;
         }
-        random = new Random(this.seed);
-        this.cells = new MapCell[width][height];
+        SplittableRandom root = new SplittableRandom(this.seed);
+        this.landRandom = root.split();
+        this.random = root.split();
+        this.regions = new MapRegions(width, height, pool);
+        this.landStreams = new SplittableRandom[regions.count()];
+        this.storage = new MapCellStorage(width, height);
+        this.landCoins = new boolean[storage.grid.size];
+        this.landFill = new FloodFill(storage.grid);
+        this.landPassability = (from, to) -> landCoins[to];
+        this.land = new HexBitboard(width, height);
+        this.grown = new HexBitboard(width, height);
         createMap();
         view_Up(0);
 
-        createMagic(0);
-        System.out.println(1);
+        createMagic(0, 5);
     }
 
-    private void createMagic(int countBiomMean) {
+    /**
+     * repaints countBiomMean patches of land around random centres: every cell that can be reached from the centre
+     * in at most area steps without stepping on water or mountains gets elevation and humidity drawn from
+     * [mean - min, mean + min] of the patch and the biome of the new values
+     *
+     * @param area radius of the patches, the centres are at least area cells away from the edges
+     * @throws IllegalArgumentException if area is negative or leaves no room for a centre on a map of at least 20x20
+     */
+    void createMagic(int countBiomMean, int area) throws IllegalArgumentException {
         if (height < 20) return;
         if (width < 20) return;
+        if (area < 0 || area * 2 >= Math.min(width, height)) {
+            throw new IllegalArgumentException("Patch radius " + area + " does not fit the map");
+        }
 
+        HexRegion region = new HexRegion(storage, landFill);
         //count biom create
-        int count = 1, oldX = 0, oldY = 0;
+        int count = 1;
         while (countBiomMean >= count) {
-            int area = 5,
-                    x = random.nextInt(height - area * 2) + area,
-                    y = random.nextInt(width - area * 2) + area;
-            MapCell cell = safeAccess(x, y);
-            while (cell == null || cell.getType() == WATER || cell.getType() == MOUNTAIN) {
-                x = random.nextInt(height - area * 2) + area;
-                y = random.nextInt(width - area * 2) + area;
-
-                cell = safeAccess(x, y);
+            int x = random.nextInt(width - area * 2) + area,
+                    y = random.nextInt(height - area * 2) + area;
+            while (getType(x, y) == WATER || getType(x, y) == MOUNTAIN) {
+                x = random.nextInt(width - area * 2) + area;
+                y = random.nextInt(height - area * 2) + area;
+            }
+            region.aggregate(x, y, area);
+            double meanElevation = region.getMeanElevation(), meanHumidity = region.getMeanHumidity();
+            for (int i = 0; i < region.getCount(); ++i) {
+                changeCell(region.getIndex(i), meanElevation, region.getMinElevation(), meanHumidity, region.getMinHumidity());
             }
-            //0/countCell/1/sumElevation/2/sumHumidity/3/minElevation/4/minHumidity
-            double[] mean = isNeighbour(x, y, area);
-//        System.out.println(mean[1]+" / "+mean[0]+" = "+mean[1]/mean[0]+" :elevation MEAN");
-//        System.out.println(mean[2]+" / "+mean[0]+" = "+mean[2]/mean[0]+" :humidity MEAN");
-//        System.out.println(mean[3]+" :min elevation");
-//        System.out.println(mean[4]+" :min humidity");
-
-            mean[1] = mean[1] / mean[0];// mean ele...
-            mean[2] = mean[2] / mean[0];// mean hum..
-
-            isNeighbourChange(x, y, area, mean);
             ++count;
-            oldX = x;
-            oldY = y;
         }
     }
 
-    private double[] isNeighbour(int x, int y, int area) {
-        double[] mean = new double[5];
-        mean[3] = 1;
-        mean[4] = 1;
-        //other - change; water, mountain - don't change
-        if (safeAccess(x, y).getType() == WATER || safeAccess(x, y).getType() == MOUNTAIN) {
-            return mean;
-        }
-        if (area <= 0) {
-            return addMean(mean, x, y);
-        }
-
-        int[][] nb = getNeighbours(x);
-
-        for (int i = 0; i < 6; ++i) {
-            double[] tmp_mean = isNeighbour(x + nb[i][0], y + nb[i][1], area - 1);
-            mergeMean(mean, tmp_mean);
-        }
-
-        double[] curCell = new double[5];
-        curCell[3] = 1;
-        curCell[4] = 1;
-        addMean(curCell, x, y);
-        mergeMean(mean, curCell);
-        return mean;
-    }
-
-    private boolean isNeighbourChange(int x, int y, int area, double[] mean) {
-        //true - change, false - don't change
-        if (safeAccess(x, y).getType() == WATER) return false;
-        else if (safeAccess(x, y).getType() == MOUNTAIN) return false;
-        if (area <= 0) return true;
-
-        int[][] nb = getNeighbours(x);
-
-        for (int i = 0; i < 6; ++i) {
-            if (isNeighbourChange(x + nb[i][0], y + nb[i][1], area - 1, mean)) {
-                changeCell(x + nb[i][0], y + nb[i][1], mean);
-            }
-        }
-        return true;
-    }
-
-    private double[] mergeMean(double[] mean, double[] tmp_mean) {
-        mean[0] += tmp_mean[0];
-        mean[1] += tmp_mean[1];
-        mean[2] += tmp_mean[2];
-        if (mean[3] >= tmp_mean[3])
-            mean[3] = tmp_mean[3];
-        if (mean[4] >= tmp_mean[4])
-            mean[4] = tmp_mean[4];
-        return mean;
-    }
-
-    private double[] addMean(double[] mean, int x, int y) {
-        if (safeAccess(x, y).getType() == UNDEFINED)
-            return mean;
-        safeAccess(x, y).setType(UNDEFINED);
-        mean[0] += 1;
-        mean[1] += safeAccess(x, y).getElevation();
-        mean[2] += safeAccess(x, y).getHumidity();
-        if (mean[3] >= mean[1])
-            mean[3] = mean[1];
-        if (mean[4] >= mean[2])
-            mean[4] = mean[2];
-        return mean;
-    }
-
-    private boolean changeCell(int x, int y, double[] mean) {
-        MapCell cell = safeAccess(x, y);
-
-        if (safeAccess(x, y).getType() != UNDEFINED)
-            return false;
-
-        double leftLimit = BiomUtils.round(mean[1] - mean[3], 3);
-        double rightLimit = BiomUtils.round(mean[1] + mean[3], 3);
-        cell.setElevation(BiomUtils.round(
+    private void changeCell(int index, double meanElevation, double minElevation, double meanHumidity, double minHumidity) {
+        double leftLimit = BiomUtils.round(meanElevation - minElevation, 3);
+        double rightLimit = BiomUtils.round(meanElevation + minElevation, 3);
+        double elevation = BiomUtils.round(
                 leftLimit + random.nextDouble() * (rightLimit - leftLimit),
-                3)
-        );
+                3);
 
-        leftLimit = BiomUtils.round(mean[2] - mean[4], 3);
-        rightLimit = BiomUtils.round(mean[2] + mean[4], 3);
-        cell.setHumidity(BiomUtils.round(
+        leftLimit = BiomUtils.round(meanHumidity - minHumidity, 3);
+        rightLimit = BiomUtils.round(meanHumidity + minHumidity, 3);
+        double humidity = BiomUtils.round(
                 leftLimit + random.nextDouble() * (rightLimit - leftLimit),
-                3)
-        );
+                3);
 
-        cell.setType(defineBiom(cell.getElevation(), cell.getHumidity()));
-        return true;
+        storage.setElevation(index, elevation);
+        storage.setHumidity(index, humidity);
+        storage.setType(index, BiomeTable.get(elevation, humidity));
     }
 
     /**
      * creates map consists of only 2 types of cells (land and water) with 0.2 < land part < 0.5 else tries again
      * (if mode == 1 land part can be a bit bigger)
+     * <p>
+     * attempts reuse the same buffers; almost every rejected attempt has too little land,
+     * which is known only once its BFS has ended, so every attempt runs to the end
+     * </p>
      */
     private void createMap() {
         int landcnt = 0;
         while ((double) landcnt / (width * height) < 0.2 || (double) landcnt / (height * width) > 0.5) {
-            initMap();
-            landcnt = cntCell(LAND);
+            long start = System.nanoTime();
+            landcnt = initMap();
+            if (attempts == attemptNanos.length) attemptNanos = Arrays.copyOf(attemptNanos, attempts * 2);
+            attemptNanos[attempts++] = System.nanoTime() - start;
         }
         for (int i = 0; i < 7; ++i) {
             removeWater();
         }
-        for (MapCell[] col : cells) {
-            for (MapCell cell : col) {
-                if (cell.getType() != WATER) cell.setOwnerId(Player.NOBODY.id);
+        regions.forEach((region, x0, y0, x1, y1) -> {
+            for (int i = x0; i < x1; ++i) {
+                for (int j = y0; j < y1; ++j) {
+                    int index = storage.index(i, j);
+                    if (land.get(i, j)) {
+                        storage.setType(index, LAND);
+                        storage.setOwnerId(index, Player.NOBODY.id);
+                    } else {
+                        storage.setType(index, WATER);
+                    }
+                }
             }
-        }
+        });
     }
 
     /**
      * generate map with BFS from the center
+     * <p>
+     * the coin of every cell is tossed up front by its region's stream, so the BFS only reads them
+     * and the result does not depend on the order of the queue
+     * </p>
+     *
+     * @return number of land cells
      */
-    private void initMap() {
-
-        for (int i = 0; i < width; ++i) {
-            for (int j = 0; j < height; ++j) {
-                cells[i][j] = new MapCell(i, j);
-            }
-        }
-
-        Queue<Pair<Integer, Integer>> q = new Queue<>();
-        q.addFirst(Pair.pair(width / 2, height / 2));
-
-        while (q.notEmpty()) {
-            Pair<Integer, Integer> p = q.removeLast();
-            int x = p.first;
-            int y = p.second;
-            MapCell cell = safeAccess(x, y);
-            if (cell == null) continue;
-            if (cell.getType() != UNDEFINED) continue;
-
-            if (x == width / 2 && y == height / 2) {
-                cell.setType(LAND);
-            } else cell.setType(randomLandOrWater());
-
-            if (cell.getType() == WATER) continue;
-            int[][] nb = getNeighbours(x);
-
-            for (int i = 0; i < nb.length; ++i) {
-                int dx = nb[i][0];
-                int dy = nb[i][1];
-                q.addFirst(Pair.pair(x + dx, y + dy));
-            }
-        }
-        changeCells(CellType.UNDEFINED, WATER);
-    }
-
-    private void changeCells(CellType cellTypeOld, CellType cellTypeNew) {
-        for (MapCell[] row : cells) {
-            for (MapCell mapCell : row) {
-                if (mapCell.getType() == cellTypeOld)
-                    mapCell.setType(cellTypeNew);
-            }
-        }
-    }
-
-    private int cntCell(CellType cellType) {
-        int res = 0;
-        for (MapCell[] row : cells) {
-            for (MapCell cell : row) {
-                if (cell.getType() == cellType) ++res;
-            }
-        }
-        return res;
-    }
-
-    /**
-     * set the LAND type to all WATER cells with number of neighbour WATER cells less than 3
-     */
-    private void removeWater() {
-        int[][] neighboursLandMap = neighboursMap(LAND);
-        for (int i = 0; i < width; ++i) {
-            for (int j = 0; j < height; ++j) {
-                if (cells[i][j].getType() == WATER && neighboursLandMap[i][j] >= 4) {
-                    cells[i][j].setType(LAND);
+    private int initMap() {
+        regions.split(landRandom.split(), landStreams);
+        regions.forEach((region, x0, y0, x1, y1) -> {
+            SplittableRandom regionRandom = landStreams[region];
+            for (int i = x0; i < x1; ++i) {
+                for (int j = y0; j < y1; ++j) {
+                    landCoins[storage.index(i, j)] = regionRandom.nextInt(2) == 0;
                 }
             }
+        });
+
+        land.clear();
+        int center = storage.index(width / 2, height / 2);
+        landFill.fill(center, Integer.MAX_VALUE, landPassability, FloodFill.ALWAYS, FloodFill.UNIT_COST);
+        for (int i = 0; i < landFill.getReachedCount(); ++i) {
+            int index = landFill.getReached(i);
+            land.set(storage.grid.x(index), storage.grid.y(index));
         }
+        return landFill.getReachedCount();
     }
 
     /**
-     * @param cellType type of cells to count
-     * @return matrix with numbers of neighbour cells with chosen type
+     * set the LAND type to all WATER cells with number of neighbour WATER cells less than 3,
+     * every cell is land or water here, so these are the cells out of land with at least 4 land neighbours
      */
-    private int[][] neighboursMap(CellType cellType) {
-        int[][] neighboursMap = new int[width][height];
-        for (int i = 0; i < width; ++i) {
-            for (int j = 0; j < height; ++j) {
-                neighboursMap[i][j] = cntNeighbours(i, j, cellType);
-            }
-        }
-        return neighboursMap;
-    }
-
-    private int cntNeighbours(int x, int y, CellType cellType) {
-        int res = 0;
-        int[][] nb = getNeighbours(x);
-        for (int i = 0; i < 6; ++i) {
-            MapCell cell = safeAccess(x + nb[i][0], y + nb[i][1]);
-            if (cell != null && cell.getType() == cellType) ++res;
-        }
-        return res;
+    private void removeWater() {
+        grown.neighboursAtLeast(land, 4);
+        land.or(grown);
     }
 
     public void view_Up(int restart) {
         Perlin2D elevation_map = new Perlin2D(seed);
         Perlin2D humidity_map = new Perlin2D(this.seed + 1234);
-
-        for (int i = 0; i < width; ++i) {//y
-            for (int j = 0; j < height; ++j) {//x
-                MapCell cell = cells[i][j];
-                if (cell.getType() == CellType.LAND) {
-                    double e = elevation_map.getNoise(i / (double) height, j / (double) width, octaves, persistence) + .5f;
-                    //e = terrace(e, 22);
-                    //e = exponent(e);
-                    e = BiomUtils.round(e, 3);
-                    cells[i][j].setElevation(e);
-
-                    double m = humidity_map.getNoise(i / (double) height, j / (double) width, 10, 0.1f) + .5f;
-//                    m = exponent(m);
-                    m = BiomUtils.round(m, 3);
-                    cells[i][j].setHumidity(m);
-                    cells[i][j].setType(CellType.defineBiom(e, m));
-                    countStat(cells[i][j].getType());
+        int[][] stat = new int[regions.count()][CellType.values().length];
+
+        regions.forEach((region, x0, y0, x1, y1) -> {
+            double[] elevationRow = new double[y1 - y0];
+            double[] humidityRow = new double[y1 - y0];
+            for (int i = x0; i < x1; ++i) {//y
+                elevation_map.fillRow(elevationRow, 0, y1 - y0, i / (double) height, y0 / (double) width, 1 / (double) width, octaves, persistence);
+                humidity_map.fillRow(humidityRow, 0, y1 - y0, i / (double) height, y0 / (double) width, 1 / (double) width, 10, 0.1f);
+                for (int j = y0; j < y1; ++j) {//x
+                    int index = storage.index(i, j);
+                    if (storage.getType(index) == CellType.LAND) {
+                        double e = elevationRow[j - y0] + .5f;
+                        //e = terrace(e, 22);
+                        //e = exponent(e);
+                        e = BiomUtils.round(e, 3);
+                        storage.setElevation(index, e);
+
+                        double m = humidityRow[j - y0] + .5f;
+//                        m = exponent(m);
+                        m = BiomUtils.round(m, 3);
+                        storage.setHumidity(index, m);
+                        CellType type = BiomeTable.get(e, m);
+                        storage.setType(index, type);
+                        ++stat[region][type.ordinal()];
+                    }
                 }
             }
-//            System.out.println();
+        });
+        for (int[] regionStat : stat) {
+            for (CellType type : CellType.values()) {
+                countStat(type, regionStat[type.ordinal()]);
+            }
         }
 //        printStat();
     }
@@ -333,7 +264,7 @@ public class MapCreator {
         System.out.println();
         for (int i = 0; i < height; ++i) {
             for (int j = 0; j < width; ++j) {
-                System.out.print(cells[i][j].getElevation() + " ");
+                System.out.print(storage.getElevation(storage.index(i, j)) + " ");
             }
             System.out.println();
         }
@@ -341,7 +272,7 @@ public class MapCreator {
         System.out.println();
         for (int i = 0; i < height; ++i) {
             for (int j = 0; j < width; ++j) {
-                System.out.print(cells[i][j].getHumidity() + " ");
+                System.out.print(storage.getHumidity(storage.index(i, j)) + " ");
             }
             System.out.println();
         }
@@ -349,13 +280,14 @@ public class MapCreator {
 //        System.out.println(countWater / (width * height));
     }
 
-    private void countStat(CellType t) {
+    private void countStat(CellType t, int n) {
+        if (n == 0) return;
         String key = String.valueOf(t);
         if (!statInfo.containsKey(key)) {
-            statInfo.put(key, 1);
+            statInfo.put(key, n);
             return;
         }
-        statInfo.put(key, statInfo.get(key) + 1);
+        statInfo.put(key, statInfo.get(key) + n);
     }
 
     /**
@@ -364,17 +296,52 @@ public class MapCreator {
      * @return cell of map with coordinates(x,y), null if (x,y) out of map
      */
     public MapCell safeAccess(int x, int y) {
-        try {
-            return cells[x][y];
-        } catch (IndexOutOfBoundsException | NullPointerException e) {
-            return null;
-        }
+        return storage.cell(x, y);
     }
 
-    private CellType randomLandOrWater() {
-        int res = random.nextInt(2);
-        if (res == 0) return LAND;
-        return WATER;
+    @Override
+    public MapCell getCell(int x, int y) {
+        return safeAccess(x, y);
+    }
+
+    @Override
+    public MapCell getPlacement(int x, int y) {
+        return storage.placement(storage.index(x, y), x, y);
+    }
+
+    @Override
+    public CellType getType(int x, int y) {
+        return storage.getType(storage.index(x, y));
+    }
+
+    @Override
+    public int getOwnerId(int x, int y) {
+        return storage.getOwnerId(storage.index(x, y));
+    }
+
+    @Override
+    public void setOwnerId(int x, int y, int ownerId) {
+        storage.setOwnerId(storage.index(x, y), ownerId);
+    }
+
+    @Override
+    public int getDefence(int x, int y) {
+        return storage.getDefence(storage.index(x, y));
+    }
+
+    @Override
+    public void setDefence(int x, int y, int defence) {
+        storage.setDefence(storage.index(x, y), defence);
+    }
+
+    @Override
+    public GameObject getGameObject(int x, int y) {
+        return storage.getGameObject(storage.index(x, y));
+    }
+
+    @Override
+    public void forEachCell(CellConsumer consumer) {
+        storage.forEachCell(consumer);
     }
 
 
@@ -409,6 +376,7 @@ public class MapCreator {
         this.persistence = e;
     }
 
+    @Override
     public long getSeed() {
         return seed;
     }
@@ -417,20 +385,33 @@ public class MapCreator {
         return statInfo;
     }
 
+    /**
+     * @return number of land/water maps generated until one had 0.2 < land part < 0.5
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * @param attempt number of the attempt, from 0 to {@link #getAttempts()} - 1
+     * @return time the attempt took in nanoseconds
+     */
+    public long getAttemptNanos(int attempt) {
+        return attemptNanos[attempt];
+    }
+
+    @Override
     public int getWidth() {
         return this.width;
     }
 
+    @Override
     public int getHeight() {
         return this.height;
     }
 
-    public MapCell[][] getCells() {
-        return cells;
-    }
-
-    public void updateCell(MapCell cell) {
-        cells[cell.x][cell.y] = cell;
+    public MapCellStorage getStorage() {
+        return storage;
     }
 }
 
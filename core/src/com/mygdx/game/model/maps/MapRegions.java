@@ -0,0 +1,94 @@
+package com.mygdx.game.model.maps;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * <p>
+ * Splits a width x height grid into square regions of {@link #REGION_SIZE} cells
+ * and runs a task for every region on a fork/join pool.
+ * </p>
+ * <p>
+ * Regions are numbered row by row and every region gets its own random stream split from a parent stream
+ * in region order, so the result of a stage depends only on the seed and never on the number of threads.
+ * </p>
+ */
+class MapRegions {
+    static final int REGION_SIZE = 32;
+
+    @FunctionalInterface
+    interface RegionTask {
+        /**
+         * @param region index of the region
+         * @param x0     first row (inclusive)
+         * @param y0     first column (inclusive)
+         * @param x1     last row (exclusive)
+         * @param y1     last column (exclusive)
+         */
+        void run(int region, int x0, int y0, int x1, int y1);
+    }
+
+    private final int width, height;
+    private final int regionsX, regionsY;
+    private final ForkJoinPool pool;
+
+    MapRegions(int width, int height, ForkJoinPool pool) {
+        this.width = width;
+        this.height = height;
+        this.regionsX = (width + REGION_SIZE - 1) / REGION_SIZE;
+        this.regionsY = (height + REGION_SIZE - 1) / REGION_SIZE;
+        this.pool = pool;
+    }
+
+    int count() {
+        return regionsX * regionsY;
+    }
+
+    /**
+     * fills streams with one stream per region, split from parent in region order
+     *
+     * @param streams array of {@link #count()} streams, reused by the callers that split every attempt
+     */
+    void split(SplittableRandom parent, SplittableRandom[] streams) {
+        for (int i = 0; i < streams.length; ++i) {
+            streams[i] = parent.split();
+        }
+    }
+
+    /**
+     * runs task for every region and waits for all of them
+     */
+    void forEach(RegionTask task) {
+        pool.invoke(new RegionAction(task, 0, count()));
+    }
+
+    private void runRegion(RegionTask task, int region) {
+        int x0 = (region / regionsY) * REGION_SIZE;
+        int y0 = (region % regionsY) * REGION_SIZE;
+        task.run(region, x0, y0, Math.min(width, x0 + REGION_SIZE), Math.min(height, y0 + REGION_SIZE));
+    }
+
+    private class RegionAction extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final RegionTask task;
+        private final int from, to;
+
+        RegionAction(RegionTask task, int from, int to) {
+            this.task = task;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                runRegion(task, from);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RegionAction(task, from, mid), new RegionAction(task, mid, to));
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.mygdx.game.model.maps;
+
+import com.mygdx.game.model.gameobjects.units.Unit;
+import com.mygdx.game.utils.FloodFill;
+import com.mygdx.game.utils.HexGrid;
+
+/**
+ * <p>
+ * Cells a unit can move to from its cell, without the cell of the unit itself, see {@link GameMap#reachableCells(int, int)}.
+ * </p>
+ * <p>
+ * the range also keeps the window of cells its search read: the cells reached and their neighbours.
+ * Only a change of one of them can change the range
+ * </p>
+ */
+public final class MovementRange implements CellList {
+    final Unit unit;
+    final int unitX, unitY;
+    private final int height;
+    private final int[] cells;
+    private final int[] distancesLeft;
+    private final int size;
+
+    private final int x0, y0, windowWidth, windowHeight;
+    private final boolean[] touched;
+
+    MovementRange(GameMap gameMap, int x, int y) {
+        this.unit = (Unit) gameMap.getGameObject(x, y);
+        this.unitX = x;
+        this.unitY = y;
+        this.height = gameMap.getHeight();
+
+        FloodFill fill = gameMap.reachableCells(x, y);
+        this.size = fill.getReachedCount() - 1;
+        this.cells = new int[size];
+        this.distancesLeft = new int[size];
+        int distance = unit.getDistance();
+        for (int i = 0; i < size; ++i) {
+            int index = fill.getReached(i + 1);
+            cells[i] = gameMap.toMapX(index) * height + gameMap.toMapY(index);
+            distancesLeft[i] = distance - fill.getDistance(index);
+        }
+
+        int origin = fill.getGrid().index(0, 0);
+        this.x0 = gameMap.toMapX(origin);
+        this.y0 = gameMap.toMapY(origin);
+        this.windowWidth = fill.getGrid().width;
+        this.windowHeight = fill.getGrid().height;
+        this.touched = new boolean[windowWidth * windowHeight];
+        for (int i = 0; i < fill.getReachedCount(); ++i) {
+            int index = fill.getReached(i);
+            int rx = gameMap.toMapX(index), ry = gameMap.toMapY(index);
+            touch(rx, ry);
+            for (int[] nb : HexGrid.getNeighbours(rx)) {
+                touch(rx + nb[0], ry + nb[1]);
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int getX(int i) {
+        return cells[i] / height;
+    }
+
+    @Override
+    public int getY(int i) {
+        return cells[i] % height;
+    }
+
+    /**
+     * @return moves the unit has left after moving to the cell i
+     */
+    public int getDistanceLeft(int i) {
+        return distancesLeft[i];
+    }
+
+    /**
+     * @return whether the search of the range read the cell (x, y)
+     */
+    boolean touches(int x, int y) {
+        int wx = x - x0, wy = y - y0;
+        if (wx < 0 || wx >= windowWidth || wy < 0 || wy >= windowHeight) return false;
+        return touched[wx * windowHeight + wy];
+    }
+
+    private void touch(int x, int y) {
+        int wx = x - x0, wy = y - y0;
+        if (wx < 0 || wx >= windowWidth || wy < 0 || wy >= windowHeight) return;
+        touched[wx * windowHeight + wy] = true;
+    }
+}
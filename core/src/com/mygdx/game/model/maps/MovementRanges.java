@@ -0,0 +1,67 @@
+package com.mygdx.game.model.maps;
+
+import com.mygdx.game.model.gameobjects.units.Unit;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Movement ranges of the units of a {@link GameMap} kept between the clicks on them.
+ * </p>
+ * <p>
+ * a range is dropped when a cell its search read changes owner, defence or object, so selecting units
+ * back and forth does not search again until the map around them changes
+ * </p>
+ */
+final class MovementRanges implements CellListener {
+    private final GameMap gameMap;
+    private MovementRange[] ranges = new MovementRange[16];
+    private int size;
+    private int searches;
+
+    MovementRanges(GameMap gameMap) {
+        this.gameMap = gameMap;
+    }
+
+    /**
+     * @return range of the unit on (x, y), null if there is no unit on (x, y)
+     */
+    MovementRange get(int x, int y) {
+        if (!gameMap.contains(x, y) || !(gameMap.getGameObject(x, y) instanceof Unit unit)) return null;
+        for (int i = 0; i < size; ++i) {
+            MovementRange range = ranges[i];
+            if (range.unit == unit && range.unitX == x && range.unitY == y) return range;
+        }
+        ++searches;
+        MovementRange range = new MovementRange(gameMap, x, y);
+        if (size == ranges.length) ranges = Arrays.copyOf(ranges, size * 2);
+        ranges[size++] = range;
+        return range;
+    }
+
+    @Override
+    public void cellChanged(int x, int y) {
+        for (int i = size - 1; i >= 0; --i) {
+            if (ranges[i].touches(x, y)) remove(i);
+        }
+    }
+
+    void clear() {
+        for (int i = 0; i < size; ++i) {
+            ranges[i] = null;
+        }
+        size = 0;
+    }
+
+    /**
+     * @return number of searches made, a range taken from the cache makes none
+     */
+    int getSearches() {
+        return searches;
+    }
+
+    private void remove(int i) {
+        ranges[i] = ranges[--size];
+        ranges[size] = null;
+    }
+}
@@ -2,78 +2,85 @@ package com.mygdx.game.model.maps;
 
 import java.util.Random;
 
+/**
+ * <p>
+ * Gradient noise over the plane. The gradient of a lattice point is taken from a permutation table
+ * shuffled once from the seed, so the noise is a pure function of (x, y, seed):
+ * it does not depend on the order of calls and may be sampled from any thread.
+ * </p>
+ * <p>
+ * Sampling allocates nothing; {@link #fillRow} fills a whole row of samples in one call.
+ * </p>
+ */
 public class Perlin2D {
-    private Random random;
-    private double degree=2;
+    private static final int SIZE = 256;
+    private static final int MASK = SIZE - 1;
+
+    /**
+     * gradient vectors: {1,0}, {-1,0}, {0,1}, {0,-1}
+     */
+    private static final double[]
+            gradientX = {1, -1, 0, 0},
+            gradientY = {0, 0, 1, -1};
+
+    /**
+     * permutation of [0, 256) repeated twice, so that perm[perm[x] + y] never needs a wrap
+     */
+    private final int[] perm = new int[SIZE * 2];
+
     public Perlin2D(double seed) {
-        random = new Random((long)seed);
+        setRandom(seed);
     }
-    public void setRandom(double seed){
-        this.random = new Random((long) seed);
+
+    public void setRandom(double seed) {
+        Random random = new Random((long) seed);
+        for (int i = 0; i < SIZE; ++i) {
+            perm[i] = i;
+        }
+        for (int i = SIZE - 1; i > 0; --i) {
+            int j = random.nextInt(i + 1);
+            int tmp = perm[i];
+            perm[i] = perm[j];
+            perm[j] = tmp;
+        }
+        System.arraycopy(perm, 0, perm, SIZE, SIZE);
     }
 
     public double getNoiseStandart(double x, double y) {
-        int left = (int)x;
-        int top = (int)y;
+        int left = floor(x);
+        int top = floor(y);
 
         double localX = x - left;
         double localY = y - top;
 
-        // ��������� ����������� ������� ��� ���� ������ ��������:
-        Vector topLeftGradient     = getPseudoRandomGradientVector(left,   top  );
-        Vector topRightGradient    = getPseudoRandomGradientVector(left+1, top  );
-        Vector bottomLeftGradient  = getPseudoRandomGradientVector(left,   top+1);
-        Vector bottomRightGradient = getPseudoRandomGradientVector(left+1, top+1);
-
-        // ������� �� ������ �������� �� ����� ������ ��������:
-        Vector distanceToTopLeft     = new Vector(localX,   localY);
-        Vector distanceToTopRight    = new Vector(localX-1, localY);
-        Vector distanceToBottomLeft  = new Vector(localX,   localY-1);
-        Vector distanceToBottomRight = new Vector(localX-1, localY-1);
-
-        // ������� ��������� ������������ ����� �������� ����� ���������������
-        double tx1 = dot(distanceToTopLeft,     topLeftGradient);
-        double tx2 = dot(distanceToTopRight,    topRightGradient);
-        double bx1 = dot(distanceToBottomLeft,  bottomLeftGradient);
-        double bx2 = dot(distanceToBottomRight, bottomRightGradient);
-
-        // ����������, ������������:
-        double tx = lerp(tx1, tx2, localX);
-        double bx = lerp(bx1, bx2, localX);
-        double tb = lerp(tx, bx, localY);
+        int x0 = left & MASK;
+        int y0 = top & MASK;
+        int x1 = (x0 + 1) & MASK;
+        int y1 = (y0 + 1) & MASK;
 
-        return tb;
-    }
+        // dot products of the corner gradients with the distances to the corners
+        double tx1 = dotGradient(perm[perm[x0] + y0], localX, localY);
+        double tx2 = dotGradient(perm[perm[x1] + y0], localX - 1, localY);
+        double bx1 = dotGradient(perm[perm[x0] + y1], localX, localY - 1);
+        double bx2 = dotGradient(perm[perm[x1] + y1], localX - 1, localY - 1);
 
-    private double lerp(double a, double b, double t) {
-        return a + (b - a) * t;
+        double tx = lerp(tx1, tx2, localX);
+        double bx = lerp(bx1, bx2, localX);
+        return lerp(tx, bx, localY);
     }
 
-    private double dot(Vector a, Vector b) {
-        return a.x * b.x + a.y * b.y;
+    private static int floor(double v) {
+        int i = (int) v;
+        return v < i ? i - 1 : i;
     }
 
-    private Vector getPseudoRandomGradientVector(int x, int y) {
-        // ������-��������� ����� �� 0 �� 3 ������� ������ ��������� ��� ������ x � y
-        int v = random.nextInt(4);
-
-        switch (v)
-        {
-            case 0:  return new Vector(1, 0);
-            case 1:  return new Vector(-1, 0);
-            case 2:  return new Vector(0, 1);
-            default: return new Vector(0,-1);
-        }
+    private static double lerp(double a, double b, double t) {
+        return a + (b - a) * t;
     }
 
-    private static class Vector {
-        double x;
-        double y;
-        Vector(double x, double y) {
-            this.x = x;
-            this.y = y;
-        }
-
+    private static double dotGradient(int hash, double dx, double dy) {
+        int g = hash & 3;
+        return gradientX[g] * dx + gradientY[g] * dy;
     }
 
     public double getNoise(double fx, double fy, int octaves, double persistence) {
@@ -81,14 +88,35 @@ public class Perlin2D {
         double max = 0;
         double result = 0;
 
-        while (octaves-- > 0)
-        {
+        while (octaves-- > 0) {
             max += amplitude;
             result += getNoiseStandart(fx, fy) * amplitude;
             amplitude *= persistence;
             fx *= 2;
             fy *= 2;
         }
-        return result/max;
+        return result / max;
+    }
+
+    /**
+     * fills dst[offset .. offset + length) with getNoise(fx, fy + k * dy, octaves, persistence)
+     *
+     * @param fx constant first coordinate of the row
+     * @param fy first coordinate along the row
+     * @param dy step along the row
+     */
+    public void fillRow(double[] dst, int offset, int length, double fx, double fy, double dy, int octaves, double persistence) {
+        for (int k = 0; k < length; ++k) {
+            dst[offset + k] = getNoise(fx, fy + k * dy, octaves, persistence);
+        }
+    }
+
+    /**
+     * float variant of {@link #fillRow(double[], int, int, double, double, double, int, double)}
+     */
+    public void fillRow(float[] dst, int offset, int length, double fx, double fy, double dy, int octaves, double persistence) {
+        for (int k = 0; k < length; ++k) {
+            dst[offset + k] = (float) getNoise(fx, fy + k * dy, octaves, persistence);
+        }
     }
-}
\ No newline at end of file
+}
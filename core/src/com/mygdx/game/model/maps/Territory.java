@@ -0,0 +1,86 @@
+package com.mygdx.game.model.maps;
+
+import com.mygdx.game.utils.HexBitboard;
+
+/**
+ * <p>
+ * Cells of one owner of a {@link GameMap}, kept up to date by the map on every change of ownership.
+ * </p>
+ * <p>
+ * the cells are kept both as a {@link HexBitboard} for membership and masks and as a list for walking them;
+ * a cell is removed from the list by moving the last cell of the list to its place. Every cell has one owner,
+ * so the positions of the cells in the lists of all owners of the map share one array
+ * </p>
+ */
+public final class Territory implements CellList {
+    public final int ownerId;
+    private final HexBitboard cells;
+    private final int[] positions;
+    private final int height;
+    private int[] list = new int[16];
+    private int size;
+
+    /**
+     * @param positions array of width * height positions shared by the territories of the map
+     */
+    Territory(int ownerId, int width, int height, int[] positions) {
+        this.ownerId = ownerId;
+        this.cells = new HexBitboard(width, height);
+        this.positions = positions;
+        this.height = height;
+    }
+
+    void add(int x, int y) {
+        if (cells.get(x, y)) return;
+        cells.set(x, y);
+        if (size == list.length) {
+            int[] newList = new int[size * 2];
+            System.arraycopy(list, 0, newList, 0, size);
+            list = newList;
+        }
+        int cell = x * height + y;
+        list[size] = cell;
+        positions[cell] = size++;
+    }
+
+    void remove(int x, int y) {
+        if (!cells.get(x, y)) return;
+        cells.clear(x, y);
+        int position = positions[x * height + y];
+        int last = list[--size];
+        list[position] = last;
+        positions[last] = position;
+    }
+
+    /**
+     * @return number of cells of the owner
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(int x, int y) {
+        return cells.get(x, y);
+    }
+
+    /**
+     * the order of the cells changes when cells are removed
+     */
+    @Override
+    public int getX(int i) {
+        return list[i] / height;
+    }
+
+    @Override
+    public int getY(int i) {
+        return list[i] % height;
+    }
+
+    /**
+     * @return the cells as a bitboard, a view that changes with the territory and must not be modified
+     */
+    public HexBitboard getCells() {
+        return cells;
+    }
+}
@@ -0,0 +1,113 @@
+package com.mygdx.game.model.players;
+
+import com.mygdx.game.model.gameobjects.GameObject;
+import com.mygdx.game.model.gameobjects.GameObjectTypes;
+import com.mygdx.game.model.gameobjects.buildings.Building;
+import com.mygdx.game.model.gameobjects.buildings.Capital;
+import com.mygdx.game.model.gameobjects.buildings.Farm;
+import com.mygdx.game.model.gameobjects.units.Unit;
+
+/**
+ * <p>
+ * Running totals of the income of a {@link Player}, updated with every object and every cell the player gains or loses,
+ * so the income of a turn is a sum of a few fields.
+ * </p>
+ * <p>
+ * the ledger belongs to its player and changes in place with it, {@link #Ledger(Ledger)} copies it
+ * </p>
+ * <p>
+ * farms, the capital and the territory bring money only while the player has a capital; buildings, the capital among
+ * them, and units always count with their money per turn
+ * </p>
+ */
+public final class Ledger {
+    private int unitUpkeep, buildingUpkeep;
+    private int farms, capitalIncome, territory;
+    private boolean capital;
+
+    Ledger() {
+    }
+
+    public Ledger(Ledger ledger) {
+        this.unitUpkeep = ledger.unitUpkeep;
+        this.buildingUpkeep = ledger.buildingUpkeep;
+        this.farms = ledger.farms;
+        this.capitalIncome = ledger.capitalIncome;
+        this.territory = ledger.territory;
+        this.capital = ledger.capital;
+    }
+
+    /**
+     * @param sign 1 if the player gains gameObject, -1 if it loses it
+     */
+    void addObject(GameObject gameObject, int sign) {
+        int money = sign * GameObjectTypes.getMoneyPerTurn(gameObject.type);
+        if (gameObject instanceof Unit) {
+            unitUpkeep += money;
+        } else if (gameObject instanceof Farm) {
+            farms += sign;
+        } else if (gameObject instanceof Building) {
+            buildingUpkeep += money;
+        }
+    }
+
+    /**
+     * @param capital the capital of the player, null if it has none
+     */
+    void setCapital(Capital capital) {
+        this.capitalIncome = capital == null ? 0 : GameObjectTypes.getMoneyPerTurn(capital.type);
+        this.capital = capital != null;
+    }
+
+    void addTerritory(int delta) {
+        territory += delta;
+    }
+
+    void removeUnits() {
+        unitUpkeep = 0;
+    }
+
+    /**
+     * @return money the player gets or pays at the start of its turn
+     */
+    public int getIncome() {
+        return getFarmIncome() + getCapitalIncome() + getTerritoryIncome() + buildingUpkeep + unitUpkeep;
+    }
+
+    public int getUnitUpkeep() {
+        return unitUpkeep;
+    }
+
+    public int getBuildingUpkeep() {
+        return buildingUpkeep;
+    }
+
+    public int getFarmIncome() {
+        return capital ? farms * GameObjectTypes.getMoneyPerTurn(GameObjectTypes.FARM) : 0;
+    }
+
+    public int getCapitalIncome() {
+        return capital ? capitalIncome : 0;
+    }
+
+    public int getTerritoryIncome() {
+        return capital ? territory : 0;
+    }
+
+    /**
+     * <p>
+     * gold after the given number of turns if nothing is bought, gained or lost
+     * </p>
+     * <p>
+     * a turn that would end in debt wipes the army out and leaves no gold, as {@link Player#countIncome()} does,
+     * later turns go on without the upkeep of the units
+     * </p>
+     */
+    public int projectGold(int gold, int turns) {
+        if (turns <= 0) return gold;
+        int income = getIncome();
+        int affordable = gold + income < 0 ? 0 : income >= 0 ? turns : gold / -income;
+        if (turns <= affordable) return gold + turns * income;
+        return Math.max(income - unitUpkeep, 0) * (turns - affordable - 1);
+    }
+}
@@ -1,157 +1,198 @@
 package com.mygdx.game.model.players;
 
-import com.mygdx.game.ProjectVariables;
-import com.mygdx.game.model.GamingProcess;
+import com.badlogic.gdx.utils.ObjectSet;
 import com.mygdx.game.model.gameobjects.GameObject;
+import com.mygdx.game.model.gameobjects.GameObjectTypes;
 import com.mygdx.game.model.gameobjects.buildings.Building;
 import com.mygdx.game.model.gameobjects.buildings.Capital;
 import com.mygdx.game.model.gameobjects.buildings.Farm;
 import com.mygdx.game.model.gameobjects.units.Unit;
 import com.mygdx.game.model.maps.*;
-import com.mygdx.game.utils.ListUtils;
-
-import java.util.*;
-import java.util.Map;
 
+/**
+ * <p>
+ * Player of a game with its objects, gold and territory.
+ * </p>
+ * <p>
+ * the player changes in place, so an action of the game allocates nothing: the objects are kept in {@link ObjectSet}s,
+ * which add and remove without allocating once they have grown, and the income in a {@link Ledger}.
+ * {@link #Player(Player)} makes a copy that later changes do not affect
+ * </p>
+ */
 public class Player {
     public final int id;
     public static final Player NOBODY = new Player(-1, "", null);
     public final Border border;
     public final String name;
-    private List<Building> buildings;
-    private List<Unit> units;
-    private List<Farm> farms;
+    private final ObjectSet<Building> buildings;
+    private final ObjectSet<Unit> units;
+    private final ObjectSet<Farm> farms;
 
     private boolean done = false;
     private Capital capital;
     private int gold = 0;
     private int territory = 0;
+    private final Ledger ledger;
 
     public Player(int id, String name, Border border) {
         this.id = id;
         this.border = border;
         this.name = name;
-        buildings = new ArrayList<>();
-        units = new ArrayList<>();
-        farms = new ArrayList<>();
+        buildings = new ObjectSet<>();
+        units = new ObjectSet<>();
+        farms = new ObjectSet<>();
+        ledger = new Ledger();
     }
 
     public Player(Player player) {
         this.id = player.id;
         this.border = player.border;
         this.name = player.name;
-        this.buildings = player.buildings;
-        this.units = player.units;
-        this.farms = player.farms;
+        this.buildings = new ObjectSet<>(player.buildings);
+        this.units = new ObjectSet<>(player.units);
+        this.farms = new ObjectSet<>(player.farms);
 
         this.done = player.done;
         this.capital = player.capital;
         this.gold = player.gold;
         this.territory = player.territory;
+        this.ledger = new Ledger(player.ledger);
     }
 
     public int getFarmsNumber() {
-        return farms.size();
+        return farms.size;
     }
 
-    public Player removeGameObject(GameObject gameObject) {
-        Player newPlayer = new Player(this);
-        if (gameObject instanceof Unit) {
-            newPlayer.units = ListUtils.removeObject(units, List.of((Unit) gameObject));
+    public void removeGameObject(GameObject gameObject) {
+        boolean removed = false;
+        if (gameObject instanceof Unit unit) {
+            removed = units.remove(unit);
         }
-        if (gameObject instanceof Building) {
-            if (gameObject instanceof Capital) {
-                newPlayer.capital = null;
+        if (gameObject instanceof Building building) {
+            if (building instanceof Capital) {
+                setCapital(null);
             }
-            if (gameObject instanceof Farm) {
-                newPlayer.farms = ListUtils.removeObject(farms, List.of((Farm) gameObject));
-
+            if (building instanceof Farm farm) {
+                removed = farms.remove(farm);
             } else {
-                newPlayer.buildings = ListUtils.removeObject(buildings, List.of((Building) gameObject));
+                removed = buildings.remove(building);
             }
         }
-        return newPlayer;
+        if (removed) ledger.addObject(gameObject, -1);
     }
 
-    public Player addGameObject(GameObject gameObject) {
-        Player newPlayer = new Player(this);
-
-        newPlayer.gold -= getGameObjectFullCost(gameObject);
-        if (gameObject instanceof Unit) {
-            newPlayer.units = ListUtils.addObject(units, (Unit) gameObject);
+    public void addGameObject(GameObject gameObject) {
+        gold -= getGameObjectFullCost(gameObject);
+        boolean added = false;
+        if (gameObject instanceof Unit unit) {
+            added = units.add(unit);
         }
-        if (gameObject instanceof Building) {
-            if (gameObject instanceof Capital) {
-                newPlayer.capital = (Capital) gameObject;
+        if (gameObject instanceof Building building) {
+            if (building instanceof Capital newCapital) {
+                setCapital(newCapital);
             }
-            if (gameObject instanceof Farm) {
-                newPlayer.farms = ListUtils.addObject(farms, (Farm) gameObject);
+            if (building instanceof Farm farm) {
+                added = farms.add(farm);
             } else {
-                newPlayer.buildings = ListUtils.addObject(buildings, (Building) gameObject);
+                added = buildings.add(building);
             }
         }
-        return newPlayer;
+        if (added) ledger.addObject(gameObject, 1);
+    }
+
+    private void setCapital(Capital capital) {
+        if (this.capital == capital) return;
+        this.capital = capital;
+        ledger.setCapital(capital);
     }
 
     private int getGameObjectFullCost(GameObject gameObject){
         int cost = gameObject.getCost();
         if(gameObject instanceof Farm){
-            cost += farms.size() + ProjectVariables.BuildingSpec.additionalFarmCost;
+            cost += farms.size + GameObjectTypes.getAdditionalCost(GameObjectTypes.FARM);
         }
         return cost;
     }
 
     public void refreshUnits() {
-        units.forEach(unit -> unit.setMoved(false));
+        for (Unit unit : units) {
+            unit.setMoved(false);
+        }
     }
 
-    public Map.Entry<Player, Boolean> countIncome() {
-        Player newPlayer = new Player(this);
+    /**
+     * adds the income of a turn to the gold, leaves no gold if the player could not pay
+     *
+     * @see #isSolvent()
+     */
+    public void countIncome() {
+        gold = Math.max(gold + ledger.getIncome(), 0);
+    }
 
-        if (newPlayer.capital != null) {
-            newPlayer.gold += newPlayer.getFarmsNumber() * ProjectVariables.BuildingSpec.farmMoneyPerTurn;
-            newPlayer.gold += newPlayer.capital.getMoneyPerTurn();
-            newPlayer.gold += newPlayer.territory;
-        }
-        for (Building building : newPlayer.buildings) {
-            newPlayer.gold += building.getMoneyPerTurn();
-        }
-        for (Unit unit : newPlayer.units) {
-            newPlayer.gold += unit.getMoneyPerTurn();
-        }
-        if (newPlayer.gold < 0) {
-            newPlayer.gold = 0;
-            return new AbstractMap.SimpleEntry<>(newPlayer, false);
-        }
-        return new AbstractMap.SimpleEntry<>(newPlayer, true);
+    /**
+     * @return whether the player can pay the income of a turn, its army is wiped out otherwise
+     */
+    public boolean isSolvent() {
+        return gold + ledger.getIncome() >= 0;
+    }
+
+    public int getIncome() {
+        return ledger.getIncome();
+    }
+
+    /**
+     * @return gold after the given number of turns if nothing is bought, gained or lost, see {@link Ledger#projectGold(int, int)}
+     */
+    public int projectGold(int turns) {
+        return ledger.projectGold(gold, turns);
+    }
+
+    /**
+     * @return the ledger of the player, it changes with the player
+     */
+    public Ledger getLedger() {
+        return ledger;
+    }
+
+    /**
+     * forgets all units, e.g. after the army was wiped out for debts
+     */
+    public void removeUnits() {
+        units.clear();
+        ledger.removeUnits();
     }
 
     public boolean isDone() {
         return done;
     }
 
-    public Player addTerritory(int n) {
-        Player newPlayer = new Player(this);
-        newPlayer.territory+=n;
-        return newPlayer;
+    public void addTerritory(int n) {
+        territory += n;
+        ledger.addTerritory(n);
     }
 
-    public Player removeTerritory(int n) {
-        Player newPlayer = new Player(this);
-        newPlayer.territory-=n;
-        if (newPlayer.territory <= 0) newPlayer.done = true;
-        return newPlayer;
+    public void removeTerritory(int n) {
+        territory -= n;
+        ledger.addTerritory(-n);
+        if (territory <= 0) done = true;
     }
 
     public Capital getCapital() {
         return capital;
     }
 
-    public List<Building> getBuildings() {
+    /**
+     * @return buildings of the player, farms are kept apart; the set is the one of the player and must not be changed
+     */
+    public ObjectSet<Building> getBuildings() {
         return buildings;
     }
 
-    public List<Unit> getUnits() {
+    public ObjectSet<Farm> getFarms() {
+        return farms;
+    }
+
+    public ObjectSet<Unit> getUnits() {
         return units;
     }
 
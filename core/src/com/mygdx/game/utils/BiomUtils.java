@@ -4,9 +4,40 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 
 public class BiomUtils {
-    public static  double round(double value, int places){
-        if(places < 0)
+    private static final double[] POWERS_OF_TEN = {1, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9};
+    /**
+     * scaled values below the limit are off by far less than {@link #TIE_MARGIN} from their decimal representation
+     */
+    private static final double FAST_LIMIT = 1e9;
+    private static final double TIE_MARGIN = 1e-6;
+
+    /**
+     * rounds value half up to places decimal places, as the decimal representation of value would be rounded
+     * <p>
+     * the value is rounded in fixed point; only values that are too large or within {@link #TIE_MARGIN}
+     * of a tie go through {@link BigDecimal}
+     * </p>
+     */
+    public static double round(double value, int places) {
+        if (places < 0)
             throw new IllegalArgumentException();
+        if (places < POWERS_OF_TEN.length) {
+            double scale = POWERS_OF_TEN[places];
+            double scaled = Math.abs(value) * scale;
+            if (scaled < FAST_LIMIT) {
+                double units = Math.floor(scaled);
+                double fraction = scaled - units;
+                if (Math.abs(fraction - 0.5) > TIE_MARGIN) {
+                    if (fraction > 0.5) ++units;
+                    if (units == 0) return 0;
+                    return Math.copySign(units, value) / scale;
+                }
+            }
+        }
+        return roundDecimal(value, places);
+    }
+
+    static double roundDecimal(double value, int places) {
         BigDecimal bd = new BigDecimal(Double.toString(value));
         bd = bd.setScale(places, RoundingMode.HALF_UP);
         return bd.doubleValue();
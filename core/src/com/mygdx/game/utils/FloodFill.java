@@ -0,0 +1,160 @@
+package com.mygdx.game.utils;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Breadth-first flood fill over the indices of a {@link HexGrid}.
+ * </p>
+ * <p>
+ * The queue is a growable int ring buffer and reached cells are marked with the number of the current fill
+ * (epoch) instead of clearing a visited array, so once the buffers have grown to the size of the largest fill
+ * a call allocates nothing.
+ * </p>
+ * <p>
+ * Which cells may be entered, which cells the fill continues from and what a step costs are given by the callers,
+ * cells keep the smallest distance found to them.
+ * </p>
+ */
+public final class FloodFill {
+    @FunctionalInterface
+    public interface Passability {
+        /**
+         * @return true if the fill may step from cell from to cell to; to may be a sentinel
+         */
+        boolean canEnter(int from, int to);
+    }
+
+    @FunctionalInterface
+    public interface Expansion {
+        /**
+         * @return true if the fill continues from a reached cell
+         */
+        boolean canLeave(int index);
+    }
+
+    @FunctionalInterface
+    public interface Cost {
+        /**
+         * @return positive cost of the step from cell from to cell to; to may be a sentinel
+         */
+        int cost(int from, int to);
+    }
+
+    public static final Expansion ALWAYS = index -> true;
+    public static final Cost UNIT_COST = (from, to) -> 1;
+
+    private final HexGrid grid;
+    private final int[] stamps;
+    private final int[] distances;
+    private int epoch = 0;
+
+    private int[] queue = new int[64];
+    private int head = 0, tail = 0, queued = 0;
+
+    private int[] reached = new int[64];
+    private int reachedCount = 0;
+
+    public FloodFill(HexGrid grid) {
+        this.grid = grid;
+        this.stamps = new int[grid.size];
+        this.distances = new int[grid.size];
+    }
+
+    /**
+     * fills from start over the cells at distance at most maxDistance
+     *
+     * @return number of reached cells, start included
+     */
+    public int fill(int start, int maxDistance, Passability passability, Expansion expansion, Cost cost) {
+        nextEpoch();
+        reachedCount = 0;
+        head = tail = queued = 0;
+
+        reach(start, 0);
+        push(start);
+        while (queued > 0) {
+            int from = pop();
+            int distance = distances[from];
+            if (distance >= maxDistance || !expansion.canLeave(from)) continue;
+
+            int[] offsets = grid.neighbourOffsets(grid.x(from));
+            for (int k = 0; k < 6; ++k) {
+                int to = from + offsets[k];
+                int next = distance + cost.cost(from, to);
+                if (next > maxDistance || !passability.canEnter(from, to)) continue;
+                if (stamps[to] == epoch) {
+                    if (distances[to] <= next) continue;
+                    distances[to] = next;
+                } else {
+                    reach(to, next);
+                }
+                push(to);
+            }
+        }
+        return reachedCount;
+    }
+
+    public HexGrid getGrid() {
+        return grid;
+    }
+
+    public int getReachedCount() {
+        return reachedCount;
+    }
+
+    /**
+     * @param i number of the reached cell, from 0 to {@link #getReachedCount()} - 1, in the order they were reached
+     * @return grid index of the cell
+     */
+    public int getReached(int i) {
+        return reached[i];
+    }
+
+    public boolean isReached(int index) {
+        return stamps[index] == epoch;
+    }
+
+    /**
+     * @return distance from start to a reached cell
+     */
+    public int getDistance(int index) {
+        return distances[index];
+    }
+
+    private void reach(int index, int distance) {
+        stamps[index] = epoch;
+        distances[index] = distance;
+        if (reachedCount == reached.length) reached = Arrays.copyOf(reached, reached.length * 2);
+        reached[reachedCount++] = index;
+    }
+
+    private void nextEpoch() {
+        if (++epoch == Integer.MAX_VALUE) {
+            Arrays.fill(stamps, 0);
+            epoch = 1;
+        }
+    }
+
+    private void push(int index) {
+        if (queued == queue.length) {
+            int[] grown = new int[queue.length * 2];
+            for (int i = 0; i < queued; ++i) {
+                grown[i] = queue[(head + i) % queue.length];
+            }
+            queue = grown;
+            head = 0;
+            tail = queued;
+        }
+        queue[tail] = index;
+        tail = (tail + 1) % queue.length;
+        ++queued;
+    }
+
+    private int pop() {
+        int index = queue[head];
+        head = (head + 1) % queue.length;
+        --queued;
+        return index;
+    }
+}
@@ -0,0 +1,172 @@
+package com.mygdx.game.utils;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Set of cells of a width x height hex map kept as one bit per cell: row x is a run of longs, bit y of the run is
+ * the cell (x, y). Rows -1 and width are kept empty, so neighbour walks need no bounds checks.
+ * </p>
+ * <p>
+ * neighbours of the cells of a row are the row itself shifted by one bit to both sides, the rows above and below,
+ * and the rows above and below shifted by one bit towards y - 1 for odd rows or y + 1 for even rows
+ * (see {@link HexGrid#getNeighbours(int)}), so neighbour counts of 64 cells are computed at once
+ * </p>
+ */
+public final class HexBitboard {
+    public final int width, height;
+    /**
+     * longs per row
+     */
+    private final int words;
+    private final long lastWordMask;
+    private final long[] bits;
+
+    public HexBitboard(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.words = (height + 63) >>> 6;
+        this.lastWordMask = -1L >>> (words * 64 - height);
+        this.bits = new long[(width + 2) * words];
+    }
+
+    public boolean get(int x, int y) {
+        return (bits[word(x, y)] & 1L << y) != 0;
+    }
+
+    public void set(int x, int y) {
+        bits[word(x, y)] |= 1L << y;
+    }
+
+    public void set(int x, int y, boolean value) {
+        if (value) set(x, y);
+        else clear(x, y);
+    }
+
+    public void clear(int x, int y) {
+        bits[word(x, y)] &= ~(1L << y);
+    }
+
+    /**
+     * removes all cells
+     */
+    public void clear() {
+        Arrays.fill(bits, 0);
+    }
+
+    /**
+     * adds all cells of the map
+     */
+    public void fill() {
+        for (int x = 0; x < width; ++x) {
+            int row = row(x);
+            Arrays.fill(bits, row, row + words, -1L);
+            bits[row + words - 1] = lastWordMask;
+        }
+    }
+
+    public void copy(HexBitboard other) {
+        System.arraycopy(other.bits, 0, bits, 0, bits.length);
+    }
+
+    public void and(HexBitboard other) {
+        for (int i = words; i < bits.length - words; ++i) {
+            bits[i] &= other.bits[i];
+        }
+    }
+
+    public void or(HexBitboard other) {
+        for (int i = words; i < bits.length - words; ++i) {
+            bits[i] |= other.bits[i];
+        }
+    }
+
+    public void andNot(HexBitboard other) {
+        for (int i = words; i < bits.length - words; ++i) {
+            bits[i] &= ~other.bits[i];
+        }
+    }
+
+    /**
+     * replaces the set with the cells of the map it does not contain
+     */
+    public void not() {
+        for (int x = 0; x < width; ++x) {
+            int row = row(x);
+            for (int i = row; i < row + words; ++i) {
+                bits[i] = ~bits[i];
+            }
+            bits[row + words - 1] &= lastWordMask;
+        }
+    }
+
+    /**
+     * @return number of cells in the set
+     */
+    public int count() {
+        int res = 0;
+        for (long word : bits) {
+            res += Long.bitCount(word);
+        }
+        return res;
+    }
+
+    /**
+     * replaces the set with the cells of the map that have at least n neighbours in other
+     *
+     * @param other set of cells to count, not this one
+     */
+    public void neighboursAtLeast(HexBitboard other, int n) {
+        if (other == this) throw new IllegalArgumentException("Neighbours of the bitboard itself");
+        // bits of n as masks for the comparison of the bit-sliced counts
+        long n0 = (n & 1) != 0 ? -1L : 0, n1 = (n & 2) != 0 ? -1L : 0, n2 = (n & 4) != 0 ? -1L : 0;
+        long[] src = other.bits;
+        for (int x = 0; x < width; ++x) {
+            int row = row(x), above = row - words, below = row + words;
+            boolean odd = (x & 1) == 1;
+            for (int i = 0; i < words; ++i) {
+                long a = shiftUp(src, row, i), b = shiftDown(src, row, i);
+                long c = src[above + i], d = src[below + i];
+                long e = odd ? shiftUp(src, above, i) : shiftDown(src, above, i);
+                long f = odd ? shiftUp(src, below, i) : shiftDown(src, below, i);
+
+                // two full adders and a half adder sum the six neighbours into ones + 2 * twos + 4 * fours
+                long s1 = a ^ b ^ c, c1 = (a & b) | (c & (a ^ b));
+                long s2 = d ^ e ^ f, c2 = (d & e) | (f & (d ^ e));
+                long ones = s1 ^ s2, c3 = s1 & s2;
+                long twos = c1 ^ c2 ^ c3, fours = (c1 & c2) | (c3 & (c1 ^ c2));
+
+                long ge = fours & ~n2 | ~(fours ^ n2) & (twos & ~n1 | ~(twos ^ n1) & (ones | ~n0));
+                if (n > 7) ge = 0;
+                bits[row + i] = ge;
+            }
+            bits[row + words - 1] &= lastWordMask;
+        }
+    }
+
+    /**
+     * @return word i of the row starting at row with bit y set to bit y - 1 of the row
+     */
+    private long shiftUp(long[] src, int row, int i) {
+        long res = src[row + i] << 1;
+        if (i > 0) res |= src[row + i - 1] >>> 63;
+        return res;
+    }
+
+    /**
+     * @return word i of the row starting at row with bit y set to bit y + 1 of the row
+     */
+    private long shiftDown(long[] src, int row, int i) {
+        long res = src[row + i] >>> 1;
+        if (i + 1 < words) res |= src[row + i + 1] << 63;
+        return res;
+    }
+
+    private int row(int x) {
+        return (x + 1) * words;
+    }
+
+    private int word(int x, int y) {
+        return row(x) + (y >>> 6);
+    }
+}
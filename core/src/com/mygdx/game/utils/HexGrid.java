@@ -0,0 +1,94 @@
+package com.mygdx.game.utils;
+
+/**
+ * <p>
+ * Flat indexing of a width x height hex map padded with one ring of sentinel cells,
+ * so every cell of the map has 6 neighbour indices and no neighbour walk needs a bounds check:
+ * a neighbour outside the map is a sentinel index.
+ * </p>
+ * <p>
+ * neighbour k of a cell is index + offset k of its column parity, the offsets follow the order of
+ * {@link #getNeighbours(int)}
+ * </p>
+ */
+public final class HexGrid {
+    /**
+     * <p>
+     * coordinates of neighbour cells to current cell<br>
+     * column with number i:<br> odd <=> (i & 1) = 1<br> even <=> (i & 0) = 0
+     * </p>
+     * <p>
+     * pairs{row dif,column dif}
+     * </p>
+     */
+    private static final int[][]
+            neighbourodd = {{1, 0}, {0, 1}, {-1, 0}, {-1, -1}, {0, -1}, {1, -1}},
+            neighboureven = {{1, 1}, {0, 1}, {-1, 1}, {-1, 0}, {0, -1}, {1, 0}};
+
+    public final int width, height;
+    /**
+     * distance between the indices of (x, y) and (x + 1, y)
+     */
+    public final int stride;
+    /**
+     * number of indices including the sentinels
+     */
+    public final int size;
+    private final int[] oddOffsets = new int[6], evenOffsets = new int[6];
+
+    public HexGrid(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.stride = height + 2;
+        this.size = (width + 2) * stride;
+        for (int k = 0; k < 6; ++k) {
+            oddOffsets[k] = neighbourodd[k][0] * stride + neighbourodd[k][1];
+            evenOffsets[k] = neighboureven[k][0] * stride + neighboureven[k][1];
+        }
+    }
+
+    public static int[][] getNeighbours(int x) {
+        if ((x & 1) == 0) return neighboureven;
+        return neighbourodd;
+    }
+
+    /**
+     * @param x row, from -1 to width
+     * @param y column, from -1 to height
+     */
+    public int index(int x, int y) {
+        return (x + 1) * stride + y + 1;
+    }
+
+    public int x(int index) {
+        return index / stride - 1;
+    }
+
+    public int y(int index) {
+        return index % stride - 1;
+    }
+
+    public boolean contains(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    public boolean isSentinel(int index) {
+        return !contains(x(index), y(index));
+    }
+
+    /**
+     * @return offsets of the 6 neighbour indices of a cell in row x
+     */
+    public int[] neighbourOffsets(int x) {
+        if ((x & 1) == 0) return evenOffsets;
+        return oddOffsets;
+    }
+
+    /**
+     * @param index index of a cell of the map (not a sentinel)
+     * @param k     number of the neighbour, from 0 to 5
+     */
+    public int neighbour(int index, int k) {
+        return index + neighbourOffsets(x(index))[k];
+    }
+}
@@ -1,5 +1,10 @@
 package com.mygdx.game.utils;
 
+import com.badlogic.gdx.math.Rectangle;
+
+import static com.mygdx.game.ProjectVariables.tileHeight;
+import static com.mygdx.game.ProjectVariables.tileWidth;
+
 public class HexagonUtils {
     public static float countXLayout(int i,int j){
         return 0.75f * i;
@@ -9,4 +14,70 @@ public class HexagonUtils {
         if((i&1)==0) res+=0.5f;
         return res;
     }
+
+    /**
+     * <p>
+     * column of the hexagon under the point (x, y) of the layout in pixels, the inverse of {@link #countXLayout(int, int)}
+     * </p>
+     * <p>
+     * columns overlap by a quarter of a tile, so the point lies in the hexagon of column x / (0.75 * tileWidth)
+     * or of the column before it; of the two candidates it is the one with the nearer center
+     * </p>
+     */
+    public static int columnAt(float x, float y) {
+        int column = (int) Math.floor(x / (0.75f * tileWidth));
+        return distanceToCenter(column - 1, x, y) < distanceToCenter(column, x, y) ? column - 1 : column;
+    }
+
+    /**
+     * @return row of the hexagon of column under the height y in pixels, the inverse of {@link #countYLayout(int, int)}
+     */
+    public static int rowAt(int column, float y) {
+        return (int) Math.floor(y / tileHeight - countYLayout(column, 0));
+    }
+
+    /**
+     * @return width in pixels of the layout of a map of width columns
+     */
+    public static float layoutWidth(int width) {
+        return (countXLayout(width - 1, 0) + 1) * tileWidth;
+    }
+
+    /**
+     * @return height in pixels of the layout of a map of height rows, even columns are half a tile higher
+     */
+    public static float layoutHeight(int height) {
+        return (height + 0.5f) * tileHeight;
+    }
+
+    /**
+     * @return first column with a hexagon overlapping the view in pixels, columns overlap by a quarter of a tile
+     */
+    public static int firstVisibleColumn(Rectangle view) {
+        return (int) Math.floor((view.x - tileWidth) / (0.75f * tileWidth)) + 1;
+    }
+
+    public static int lastVisibleColumn(Rectangle view) {
+        return (int) Math.floor((view.x + view.width) / (0.75f * tileWidth));
+    }
+
+    /**
+     * @return first row with a hexagon overlapping the view in pixels, hexagons of even columns are half a tile higher
+     */
+    public static int firstVisibleRow(Rectangle view) {
+        return (int) Math.floor(view.y / tileHeight) - 1;
+    }
+
+    public static int lastVisibleRow(Rectangle view) {
+        return (int) Math.floor((view.y + view.height) / tileHeight);
+    }
+
+    /**
+     * @return square of the distance from (x, y) to the center of the hexagon of column under y
+     */
+    private static float distanceToCenter(int column, float x, float y) {
+        float dx = x - (countXLayout(column, 0) + 0.5f) * tileWidth;
+        float dy = y - (countYLayout(column, rowAt(column, y)) + 0.5f) * tileHeight;
+        return dx * dx + dy * dy;
+    }
 }
@@ -1,8 +1,11 @@
 package com.mygdx.game.view;
 
 import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.mygdx.game.controllers.actors.ActorsFactory;
+import com.mygdx.game.model.gameobjects.GameObjectTypes;
 import com.mygdx.game.model.maps.GameMap;
 import com.mygdx.game.view.stages.MainGameStage;
 import com.mygdx.game.view.stages.MenuStage;
@@ -12,6 +15,8 @@ import com.mygdx.game.model.GamingProcess;
 import com.mygdx.game.model.maps.Border;
 import com.mygdx.game.model.players.Player;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
@@ -37,12 +42,27 @@ public class ArtofWar extends Game {
 
     public void create() {
         //Gdx.graphics.setFullscreenMode(Gdx.graphics.getDisplayMode());
+        loadGameObjectTypes();
         batch = new SpriteBatch();
         factory = new ActorsFactory();
         menuStage = new MenuStage(this);
         factory.setMenuStage(menuStage);
         this.setScreen(menuStage);
     }
+
+    /**
+     * overrides the stats of the game objects with the config in the assets, if there is one
+     */
+    private static void loadGameObjectTypes() {
+        FileHandle config = Gdx.files.internal(GameObjectTypes.FILE);
+        if (!config.exists()) return;
+        try (Reader reader = config.reader("UTF-8")) {
+            GameObjectTypes.load(reader);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     public void newGame(int width, int height, List<String> playersNames) throws SQLException {
         GameMap gameMap = new GameMap(width,height);
         List<Player> players = new ArrayList<>();
@@ -51,7 +71,7 @@ public class ArtofWar extends Game {
             Player player = new Player(id, playersNames.get(i),Border.get(i));
             players.add(player);
         }
-        int gameId = gameDatabase.insertGame(players.size(), gameMap.getMapCreator().getSeed(), width, height);
+        int gameId = gameDatabase.insertGame(players.size(), gameMap.getSeed(), width, height);
         GamingProcess gamingProcess = new GamingProcess(gameMap, gameDatabase, players, gameId);
         mainGameStage = new MainGameStage(gameMap, gamingProcess, this);
         setScreen(mainGameStage);
@@ -0,0 +1,131 @@
+package com.mygdx.game.view;
+
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ScreenUtils;
+import com.mygdx.game.ProjectVariables;
+import com.mygdx.game.model.maps.GameMap;
+import com.mygdx.game.utils.HexagonUtils;
+
+import static com.mygdx.game.ProjectVariables.tileHeight;
+import static com.mygdx.game.ProjectVariables.tileWidth;
+
+/**
+ * <p>
+ * Chunks of the map drawn once into {@link FrameBuffer}s at 1 / {@link ProjectVariables#lodScale} of their size,
+ * for a camera zoomed out so far that drawing every tile would be too slow. A chunk is then a single quad.
+ * </p>
+ * <p>
+ * a chunk is the rectangle of {@link ChunkedMapRenderer#CHUNK_SIZE} columns and rows in pixels, with the parts
+ * of the cells of the neighbouring chunks that reach into it, so the chunks fit without gaps; a chunk is baked again
+ * only after a cell in or next to it changed. The buffers are reused the way {@link ChunkSlots} says
+ * </p>
+ */
+final class BakedChunks implements Disposable {
+    private static final int CHUNK_SIZE = ChunkedMapRenderer.CHUNK_SIZE;
+    private static final float CHUNK_WIDTH = 0.75f * CHUNK_SIZE * tileWidth, CHUNK_HEIGHT = CHUNK_SIZE * tileHeight;
+
+    private final ChunkedMapRenderer renderer;
+    private final int chunksX, chunksY;
+    private final ChunkSlots slots = new ChunkSlots(ProjectVariables.bakedChunks);
+    private final Array<FrameBuffer> buffers = new Array<>();
+    /**
+     * chunks with cells changed since they were baked
+     */
+    private final boolean[] changed;
+    private final Matrix4 projection = new Matrix4();
+
+    BakedChunks(ChunkedMapRenderer renderer, GameMap gameMap) {
+        this.renderer = renderer;
+        this.chunksX = (int) Math.ceil(HexagonUtils.layoutWidth(gameMap.getWidth()) / CHUNK_WIDTH);
+        this.chunksY = (int) Math.ceil(HexagonUtils.layoutHeight(gameMap.getHeight()) / CHUNK_HEIGHT);
+        this.changed = new boolean[chunksX * chunksY];
+    }
+
+    /**
+     * marks the chunks reached by the cell and its neighbours as changed
+     */
+    void invalidate(int x, int y) {
+        int firstX = chunkX(0.75f * (x - 1) * tileWidth), lastX = chunkX((0.75f * (x + 1) + 1) * tileWidth);
+        int firstY = chunkY((y - 1) * tileHeight), lastY = chunkY((y + 2) * tileHeight);
+        for (int cx = firstX; cx <= lastX; ++cx) {
+            for (int cy = firstY; cy <= lastY; ++cy) {
+                changed[cx * chunksY + cy] = true;
+            }
+        }
+    }
+
+    /**
+     * draws the chunks in the view, baking at most {@link ProjectVariables#bakesPerFrame} of the missing
+     * and changed ones; the chunks missing after that are drawn in the next frames
+     */
+    void render(Camera camera, Batch batch, Rectangle view) {
+        int firstX = chunkX(view.x), lastX = chunkX(view.x + view.width);
+        int firstY = chunkY(view.y), lastY = chunkY(view.y + view.height);
+        slots.nextFrame();
+        int bakes = 0;
+        for (int cx = firstX; cx <= lastX; ++cx) {
+            for (int cy = firstY; cy <= lastY; ++cy) {
+                int chunk = cx * chunksY + cy;
+                int slot = slots.get(chunk);
+                if (bakes == ProjectVariables.bakesPerFrame || (slot != -1 && !changed[chunk])) continue;
+                bake(batch, slot == -1 ? slots.put(chunk) : slot, cx, cy);
+                ++bakes;
+            }
+        }
+
+        batch.setProjectionMatrix(camera.combined);
+        batch.begin();
+        for (int cx = firstX; cx <= lastX; ++cx) {
+            for (int cy = firstY; cy <= lastY; ++cy) {
+                int slot = slots.get(cx * chunksY + cy);
+                if (slot == -1) continue;
+                Texture texture = buffers.get(slot).getColorBufferTexture();
+                batch.draw(texture, cx * CHUNK_WIDTH, cy * CHUNK_HEIGHT, CHUNK_WIDTH, CHUNK_HEIGHT,
+                        0, 0, texture.getWidth(), texture.getHeight(), false, true);
+            }
+        }
+        batch.end();
+    }
+
+    private void bake(Batch batch, int slot, int cx, int cy) {
+        if (slot == buffers.size) {
+            FrameBuffer buffer = new FrameBuffer(Pixmap.Format.RGBA8888,
+                    Math.round(CHUNK_WIDTH / ProjectVariables.lodScale), Math.round(CHUNK_HEIGHT / ProjectVariables.lodScale), false);
+            buffer.getColorBufferTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+            buffers.add(buffer);
+        }
+        changed[cx * chunksY + cy] = false;
+        FrameBuffer buffer = buffers.get(slot);
+        projection.setToOrtho2D(cx * CHUNK_WIDTH, cy * CHUNK_HEIGHT, CHUNK_WIDTH, CHUNK_HEIGHT);
+        buffer.begin();
+        ScreenUtils.clear(0, 0, 0, 0);
+        batch.setProjectionMatrix(projection);
+        batch.begin();
+        renderer.drawCells(batch, cx * CHUNK_SIZE - 1, (cx + 1) * CHUNK_SIZE, cy * CHUNK_SIZE - 1, (cy + 1) * CHUNK_SIZE);
+        batch.end();
+        buffer.end();
+    }
+
+    private int chunkX(float x) {
+        return Math.min(Math.max((int) Math.floor(x / CHUNK_WIDTH), 0), chunksX - 1);
+    }
+
+    private int chunkY(float y) {
+        return Math.min(Math.max((int) Math.floor(y / CHUNK_HEIGHT), 0), chunksY - 1);
+    }
+
+    @Override
+    public void dispose() {
+        for (FrameBuffer buffer : buffers) {
+            buffer.dispose();
+        }
+    }
+}
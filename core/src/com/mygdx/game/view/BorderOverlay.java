@@ -0,0 +1,140 @@
+package com.mygdx.game.view;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.IntIntMap;
+import com.mygdx.game.model.maps.Border;
+import com.mygdx.game.model.maps.CellType;
+import com.mygdx.game.model.maps.GameMap;
+import com.mygdx.game.model.players.Player;
+import com.mygdx.game.utils.HexGrid;
+import com.mygdx.game.utils.HexagonUtils;
+
+import static com.mygdx.game.ProjectVariables.tileHeight;
+import static com.mygdx.game.ProjectVariables.tileWidth;
+
+/**
+ * <p>
+ * Borders of the territories of the players, drawn on the edges between cells of different owners.
+ * </p>
+ * <p>
+ * only the cells on a border are kept: the key is x * height + y, the value is the mask of the edges of the cell
+ * with a border, bit k for neighbour k, and the number of the {@link Border} of its owner above the mask,
+ * so memory and updates scale with the length of the borders and not with the area of the map
+ * </p>
+ */
+public class BorderOverlay {
+    private static final int EDGE_BITS = 6, EDGE_MASK = (1 << EDGE_BITS) - 1;
+
+    private final GameMap gameMap;
+    private final IntIntMap edges = new IntIntMap();
+    private final PlayerBorders playerBorders;
+
+    BorderOverlay(GameMap gameMap, PlayerBorders playerBorders) {
+        this.gameMap = gameMap;
+        this.playerBorders = playerBorders;
+    }
+
+    /**
+     * updates the edges of the cell and of its neighbours after the owner of the cell changed
+     */
+    public void update(int x, int y) {
+        setEdges(x, y);
+        HexGrid grid = gameMap.getGrid();
+        int index = grid.index(x, y);
+        int[] offsets = grid.neighbourOffsets(x);
+        for (int k = 0; k < 6; ++k) {
+            int neighbour = index + offsets[k];
+            if (grid.isSentinel(neighbour)) continue;
+            setEdges(grid.x(neighbour), grid.y(neighbour));
+        }
+    }
+
+    /**
+     * @return mask of the edges of the cell with a border, bit k for neighbour k
+     */
+    public int getEdges(int x, int y) {
+        return edges.get(key(x, y), 0) & EDGE_MASK;
+    }
+
+    /**
+     * @return number of cells with at least one edge on a border
+     */
+    public int size() {
+        return edges.size;
+    }
+
+    /**
+     * draws the edges of the cells in the view, the batch has to have the projection of the view and not be drawing
+     */
+    public void render(Batch batch, Rectangle view) {
+        if (edges.size == 0) return;
+        batch.begin();
+        draw(batch, HexagonUtils.firstVisibleColumn(view), HexagonUtils.lastVisibleColumn(view),
+                HexagonUtils.firstVisibleRow(view), HexagonUtils.lastVisibleRow(view));
+        batch.end();
+    }
+
+    /**
+     * draws the edges of the cells of the columns and rows, the batch has to be drawing
+     */
+    void draw(Batch batch, int firstColumn, int lastColumn, int firstRow, int lastRow) {
+        firstColumn = Math.max(firstColumn, 0);
+        lastColumn = Math.min(lastColumn, gameMap.getWidth() - 1);
+        firstRow = Math.max(firstRow, 0);
+        lastRow = Math.min(lastRow, gameMap.getHeight() - 1);
+        for (int x = firstColumn; x <= lastColumn; ++x) {
+            for (int y = firstRow; y <= lastRow; ++y) {
+                int value = edges.get(key(x, y), 0);
+                if (value == 0) continue;
+                Border border = Border.get(value >>> EDGE_BITS);
+                float pixelX = HexagonUtils.countXLayout(x, y) * tileWidth;
+                float pixelY = HexagonUtils.countYLayout(x, y) * tileHeight;
+                for (int k = 0; k < 6; ++k) {
+                    if ((value & 1 << k) == 0) continue;
+                    drawEdge(batch, TileRegistry.get(border, k), k, pixelX, pixelY);
+                }
+            }
+        }
+    }
+
+    private void setEdges(int x, int y) {
+        int owner = gameMap.getOwnerId(x, y);
+        if (gameMap.getType(x, y) == CellType.WATER || owner == Player.NOBODY.id) {
+            edges.remove(key(x, y), 0);
+            return;
+        }
+        HexGrid grid = gameMap.getGrid();
+        int index = grid.index(x, y);
+        int[] offsets = grid.neighbourOffsets(x);
+        int mask = 0;
+        for (int k = 0; k < 6; ++k) {
+            int neighbour = index + offsets[k];
+            if (grid.isSentinel(neighbour) || gameMap.getOwnerId(grid.x(neighbour), grid.y(neighbour)) != owner) {
+                mask |= 1 << k;
+            }
+        }
+        if (mask == 0) edges.remove(key(x, y), 0);
+        else edges.put(key(x, y), mask | playerBorders.get(owner) << EDGE_BITS);
+    }
+
+    private int key(int x, int y) {
+        return x * gameMap.getHeight() + y;
+    }
+
+    /**
+     * draws the border tile of edge k flipped to face neighbour k: the tiles face neighbours 2 and 1,
+     * the other edges are their mirror images
+     */
+    private static void drawEdge(Batch batch, TiledMapTile tile, int k, float x, float y) {
+        TextureRegion region = tile.getTextureRegion();
+        boolean flipX = k == 0 || k == 5;
+        boolean flipY = k == 3 || k == 4 || k == 5;
+        batch.draw(region.getTexture(), x + tile.getOffsetX(), y + tile.getOffsetY(),
+                region.getRegionWidth(), region.getRegionHeight(),
+                region.getRegionX(), region.getRegionY(), region.getRegionWidth(), region.getRegionHeight(),
+                flipX, flipY);
+    }
+}
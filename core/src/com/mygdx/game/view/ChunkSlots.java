@@ -0,0 +1,84 @@
+package com.mygdx.game.view;
+
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntIntMap;
+import com.badlogic.gdx.utils.LongArray;
+
+/**
+ * <p>
+ * Slots of the chunks kept by {@link ChunkedMapRenderer}, the least recently drawn chunk gives its slot to a new one.
+ * </p>
+ * <p>
+ * a chunk drawn in the current frame is never evicted, if all slots are drawn the number of slots grows,
+ * so a view needing more chunks than the capacity still gets all of them
+ * </p>
+ */
+final class ChunkSlots {
+    private final int capacity;
+    private final IntIntMap slotOfChunk = new IntIntMap();
+    private final IntArray chunkOfSlot = new IntArray();
+    private final LongArray lastFrame = new LongArray();
+    private long frame;
+
+    ChunkSlots(int capacity) {
+        this.capacity = capacity;
+    }
+
+    void nextFrame() {
+        ++frame;
+    }
+
+    /**
+     * marks the chunk as drawn in the current frame
+     *
+     * @return slot of the chunk, -1 if the chunk has none
+     */
+    int get(int chunk) {
+        int slot = slotOfChunk.get(chunk, -1);
+        if (slot != -1) lastFrame.set(slot, frame);
+        return slot;
+    }
+
+    /**
+     * gives the chunk a free slot, a new one or the one of the least recently drawn chunk,
+     * and marks the chunk as drawn in the current frame
+     *
+     * @return slot of the chunk, its content has to be built again
+     */
+    int put(int chunk) {
+        int slot = chunkOfSlot.size < capacity ? -1 : leastRecent();
+        if (slot == -1 || lastFrame.get(slot) == frame) {
+            slot = chunkOfSlot.size;
+            chunkOfSlot.add(chunk);
+            lastFrame.add(frame);
+        } else {
+            slotOfChunk.remove(chunkOfSlot.get(slot), -1);
+            chunkOfSlot.set(slot, chunk);
+            lastFrame.set(slot, frame);
+        }
+        slotOfChunk.put(chunk, slot);
+        return slot;
+    }
+
+    /**
+     * @return chunk kept in the slot
+     */
+    int chunkOf(int slot) {
+        return chunkOfSlot.get(slot);
+    }
+
+    int size() {
+        return chunkOfSlot.size;
+    }
+
+    /**
+     * @return slot drawn longest ago, the number of slots is small so they are just walked
+     */
+    private int leastRecent() {
+        int slot = 0;
+        for (int i = 1; i < lastFrame.size; ++i) {
+            if (lastFrame.get(i) < lastFrame.get(slot)) slot = i;
+        }
+        return slot;
+    }
+}
@@ -0,0 +1,182 @@
+package com.mygdx.game.view;
+
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.mygdx.game.ProjectVariables;
+import com.mygdx.game.model.gameobjects.GameObject;
+import com.mygdx.game.model.maps.ChunkedMapStorage;
+import com.mygdx.game.model.maps.GameMap;
+import com.mygdx.game.utils.HexagonUtils;
+
+import static com.mygdx.game.ProjectVariables.tileHeight;
+import static com.mygdx.game.ProjectVariables.tileWidth;
+
+/**
+ * <p>
+ * Draws the cells, the borders and the game objects of the map in the view.
+ * </p>
+ * <p>
+ * the terrain is baked into a {@link SpriteCache} per {@link #CHUNK_SIZE} x {@link #CHUNK_SIZE} chunk the first time
+ * the chunk is in the view, at most {@link ProjectVariables#cachedChunks} chunks are kept and the one off the screen
+ * longest gives its cache to the next; the game objects change every turn and are few, so they are drawn
+ * from the cells in the view every frame, the borders are kept by a {@link BorderOverlay}.
+ * Nothing is built for the parts of the map that are never seen.
+ * </p>
+ */
+public class ChunkedMapRenderer implements MapRenderer {
+    /**
+     * same as the chunks of the storage, so baking a chunk generates at most one chunk of a lazy map
+     */
+    public static final int CHUNK_SIZE = ChunkedMapStorage.CHUNK_SIZE;
+
+    private final GameMap gameMap;
+    private final BorderOverlay borders;
+    private final BakedChunks zoomedOut;
+    private final int chunksY;
+    private final ChunkSlots slots = new ChunkSlots(ProjectVariables.cachedChunks);
+    /**
+     * cache of every slot of {@link #slots}, with the id of its only cache in {@link #cacheIds}
+     */
+    private final Array<SpriteCache> caches = new Array<>();
+    private final IntArray cacheIds = new IntArray();
+
+    ChunkedMapRenderer(GameMap gameMap, PlayerBorders playerBorders) {
+        this.gameMap = gameMap;
+        this.borders = new BorderOverlay(gameMap, playerBorders);
+        this.zoomedOut = new BakedChunks(this, gameMap);
+        this.chunksY = (gameMap.getHeight() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    }
+
+    /**
+     * updates the borders around the cell and bakes the chunks around it again, the objects are drawn from the map
+     */
+    @Override
+    public void update(int x, int y) {
+        zoomedOut.invalidate(x, y);
+        borders.update(x, y);
+    }
+
+    /**
+     * draws the cells, the borders over them and the game objects over the borders,
+     * from {@link ProjectVariables#lodZoom} the chunks are drawn from their baked textures
+     */
+    @Override
+    public void render(OrthographicCamera camera, Batch batch, Rectangle view) {
+        if (camera.zoom >= ProjectVariables.lodZoom) {
+            zoomedOut.render(camera, batch, view);
+            return;
+        }
+        renderTerrain(camera, view);
+        borders.render(batch, view);
+        renderGameObjects(batch, view);
+    }
+
+    /**
+     * draws the cells of the chunks in the view, baking the chunks that are not kept
+     */
+    private void renderTerrain(Camera camera, Rectangle view) {
+        slots.nextFrame();
+        int firstX = Math.max(HexagonUtils.firstVisibleColumn(view), 0) / CHUNK_SIZE;
+        int lastX = Math.min(HexagonUtils.lastVisibleColumn(view), gameMap.getWidth() - 1) / CHUNK_SIZE;
+        int firstY = Math.max(HexagonUtils.firstVisibleRow(view), 0) / CHUNK_SIZE;
+        int lastY = Math.min(HexagonUtils.lastVisibleRow(view), gameMap.getHeight() - 1) / CHUNK_SIZE;
+        for (int cx = firstX; cx <= lastX; ++cx) {
+            for (int cy = firstY; cy <= lastY; ++cy) {
+                int chunk = cx * chunksY + cy;
+                int slot = slots.get(chunk);
+                if (slot == -1) {
+                    slot = slots.put(chunk);
+                    bake(slot, cx, cy);
+                }
+                SpriteCache cache = caches.get(slot);
+                cache.setProjectionMatrix(camera.combined);
+                cache.begin();
+                cache.draw(cacheIds.get(slot));
+                cache.end();
+            }
+        }
+    }
+
+    /**
+     * draws the game objects of the cells in the view, the batch has to have the projection of the view and not be drawing
+     */
+    private void renderGameObjects(Batch batch, Rectangle view) {
+        batch.begin();
+        drawGameObjects(batch, HexagonUtils.firstVisibleColumn(view), HexagonUtils.lastVisibleColumn(view),
+                HexagonUtils.firstVisibleRow(view), HexagonUtils.lastVisibleRow(view));
+        batch.end();
+    }
+
+    /**
+     * draws everything of the cells of the columns and rows the way {@link #render} does, the batch has to be drawing
+     */
+    void drawCells(Batch batch, int firstColumn, int lastColumn, int firstRow, int lastRow) {
+        for (int x = Math.max(firstColumn, 0); x <= Math.min(lastColumn, gameMap.getWidth() - 1); ++x) {
+            for (int y = Math.max(firstRow, 0); y <= Math.min(lastRow, gameMap.getHeight() - 1); ++y) {
+                TiledMapTile tile = TileRegistry.get(gameMap.getType(x, y));
+                if (tile != null) draw(batch, tile, x, y);
+            }
+        }
+        borders.draw(batch, firstColumn, lastColumn, firstRow, lastRow);
+        drawGameObjects(batch, firstColumn, lastColumn, firstRow, lastRow);
+    }
+
+    private void drawGameObjects(Batch batch, int firstColumn, int lastColumn, int firstRow, int lastRow) {
+        for (int x = Math.max(firstColumn, 0); x <= Math.min(lastColumn, gameMap.getWidth() - 1); ++x) {
+            for (int y = Math.max(firstRow, 0); y <= Math.min(lastRow, gameMap.getHeight() - 1); ++y) {
+                GameObject gameObject = gameMap.getGameObject(x, y);
+                if (gameObject == null) continue;
+                draw(batch, TileRegistry.get(gameObject), x, y);
+            }
+        }
+    }
+
+    /**
+     * @return number of chunks with baked terrain
+     */
+    public int getCachedChunks() {
+        return slots.size();
+    }
+
+    private void bake(int slot, int cx, int cy) {
+        if (slot == caches.size) {
+            caches.add(new SpriteCache(CHUNK_SIZE * CHUNK_SIZE, false));
+            cacheIds.add(-1);
+        }
+        SpriteCache cache = caches.get(slot);
+        cache.clear();
+        cache.beginCache();
+        int lastX = Math.min((cx + 1) * CHUNK_SIZE, gameMap.getWidth());
+        int lastY = Math.min((cy + 1) * CHUNK_SIZE, gameMap.getHeight());
+        for (int x = cx * CHUNK_SIZE; x < lastX; ++x) {
+            for (int y = cy * CHUNK_SIZE; y < lastY; ++y) {
+                TiledMapTile tile = TileRegistry.get(gameMap.getType(x, y));
+                if (tile == null) continue;
+                cache.add(tile.getTextureRegion(),
+                        HexagonUtils.countXLayout(x, y) * tileWidth + tile.getOffsetX(),
+                        HexagonUtils.countYLayout(x, y) * tileHeight + tile.getOffsetY());
+            }
+        }
+        cacheIds.set(slot, cache.endCache());
+    }
+
+    private static void draw(Batch batch, TiledMapTile tile, int x, int y) {
+        batch.draw(tile.getTextureRegion(),
+                HexagonUtils.countXLayout(x, y) * tileWidth + tile.getOffsetX(),
+                HexagonUtils.countYLayout(x, y) * tileHeight + tile.getOffsetY());
+    }
+
+    @Override
+    public void dispose() {
+        for (SpriteCache cache : caches) {
+            cache.dispose();
+        }
+        zoomedOut.dispose();
+    }
+}
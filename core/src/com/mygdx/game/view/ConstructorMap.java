@@ -6,12 +6,10 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.scenes.scene2d.Actor;
-import com.badlogic.gdx.scenes.scene2d.Group;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.utils.ScreenUtils;
 import com.mygdx.game.model.maps.GameMap;
-import com.mygdx.game.model.maps.MapToRendererTransformator;
 import com.mygdx.game.view.stages.MainGameStage;
 import com.mygdx.game.model.maps.MapCreator;
 
@@ -190,8 +188,7 @@ public class ConstructorMap implements Screen {
         camera.update();
         //game.batch.setProjectionMatrix(camera.combined);
 
-        mapToRendererTransformator.getRenderer().setView(camera);
-        mapToRendererTransformator.getRenderer().render();
+        mapToRendererTransformator.render(camera);
 
         stage.act();
         stage.draw();
@@ -199,8 +196,6 @@ public class ConstructorMap implements Screen {
             camera.position.set(camera.position.x - Gdx.input.getDeltaX(), camera.position.y + Gdx.input.getDeltaY(), 0);
 //            System.out.println(touchPos.x+" "+touchPos.y);
             //mapToRendererTransformator.updateLayer();
-            Group g = stage.getMovableActors();
-            g.moveBy(Gdx.input.getDeltaX(), -Gdx.input.getDeltaY());
         }
         game.batch.begin();
         font.draw(game.batch, "FPS: " + Gdx.graphics.getFramesPerSecond() + " " + Gdx.input.getX() + " " + Gdx.input.getY(), 10, 20);
@@ -232,7 +227,7 @@ public class ConstructorMap implements Screen {
 
     @Override
     public void dispose() {
-        mapToRendererTransformator.getRenderer().dispose();
+        mapToRendererTransformator.dispose();
         stage.dispose();
         game.dispose();
     }
@@ -0,0 +1,23 @@
+package com.mygdx.game.view;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * draws the cells, the borders and the game objects of a map
+ */
+public interface MapRenderer extends Disposable {
+    /**
+     * updates what is drawn of the cell and its neighbours after its owner or object changed
+     */
+    void update(int x, int y);
+
+    /**
+     * draws the part of the map in the view
+     *
+     * @param batch batch with the projection of the camera, not drawing
+     */
+    void render(OrthographicCamera camera, Batch batch, Rectangle view);
+}
@@ -0,0 +1,62 @@
+package com.mygdx.game.view;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Disposable;
+import com.mygdx.game.ProjectVariables;
+import com.mygdx.game.model.maps.CellListener;
+import com.mygdx.game.model.maps.GameMap;
+
+import java.util.List;
+
+/**
+ * draws a map and follows its changes: every cell whose owner or object changes through the map is drawn again
+ */
+public class MapToRendererTransformator implements CellListener, Disposable {
+    private final MapRenderer renderer;
+    private final SelectionOverlay selection;
+    private final SpriteBatch batch = new SpriteBatch();
+    /**
+     * part of the map seen by the camera in pixels
+     */
+    private final Rectangle view = new Rectangle();
+    private final GameMap gameMap;
+
+    /**
+     * @param turnOrder ids of the players, the number of a player in it is the number of its border
+     */
+    public MapToRendererTransformator(GameMap gameMap, List<Integer> turnOrder) {
+        this.gameMap = gameMap;
+        renderer = new ChunkedMapRenderer(gameMap, new PlayerBorders(turnOrder));
+        selection = new SelectionOverlay(gameMap);
+        gameMap.addCellListener(this);
+    }
+
+    @Override
+    public void cellChanged(int x, int y) {
+        renderer.update(x, y);
+    }
+
+    /**
+     * draws the map in the view of the camera and the selection over it
+     */
+    public void render(OrthographicCamera camera) {
+        float width = camera.viewportWidth * camera.zoom, height = camera.viewportHeight * camera.zoom;
+        view.set(camera.position.x - width / 2, camera.position.y - height / 2, width, height);
+        batch.setProjectionMatrix(camera.combined);
+        renderer.render(camera, batch, view);
+        selection.render(batch, view, camera.zoom >= ProjectVariables.lodZoom);
+    }
+
+    public SelectionOverlay getSelection() {
+        return selection;
+    }
+
+    @Override
+    public void dispose() {
+        gameMap.removeCellListener(this);
+        renderer.dispose();
+        batch.dispose();
+    }
+}
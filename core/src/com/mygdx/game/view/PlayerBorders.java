@@ -0,0 +1,36 @@
+package com.mygdx.game.view;
+
+import com.badlogic.gdx.utils.IntIntMap;
+import com.mygdx.game.model.maps.Border;
+
+import java.util.List;
+
+/**
+ * Number of the {@link Border} of every player of a game: the number of the player in the turn order,
+ * which does not change during the game, so the numbers are found once for the whole game.
+ */
+final class PlayerBorders {
+    private final IntIntMap borderOfOwner = new IntIntMap();
+
+    /**
+     * @param turnOrder ids of the players
+     * @throws IllegalArgumentException if there are more players than borders
+     */
+    PlayerBorders(List<Integer> turnOrder) {
+        if (turnOrder.size() > Border.values().length)
+            throw new IllegalArgumentException(turnOrder.size() + " players, but only " + Border.values().length + " borders");
+        for (int i = 0; i < turnOrder.size(); ++i) {
+            borderOfOwner.put(turnOrder.get(i), i);
+        }
+    }
+
+    /**
+     * @return number of the border of the owner
+     * @throws IllegalStateException if the owner is not a player of the game
+     */
+    int get(int owner) {
+        int border = borderOfOwner.get(owner, -1);
+        if (border == -1) throw new IllegalStateException("Player with id " + owner + " is not in the turn order");
+        return border;
+    }
+}
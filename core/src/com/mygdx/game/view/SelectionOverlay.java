@@ -0,0 +1,160 @@
+package com.mygdx.game.view;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.IntArray;
+import com.mygdx.game.model.gameobjects.GameObject;
+import com.mygdx.game.model.maps.CellList;
+import com.mygdx.game.model.maps.GameMap;
+import com.mygdx.game.utils.HexBitboard;
+import com.mygdx.game.utils.HexagonUtils;
+
+import static com.mygdx.game.ProjectVariables.tileHeight;
+import static com.mygdx.game.ProjectVariables.tileWidth;
+
+/**
+ * <p>
+ * Darkens the cells out of the selected area on top of the map.
+ * </p>
+ * <p>
+ * the area is kept as a bitboard together with the list of its cells, so a new selection clears only the cells
+ * of the previous one; nothing is kept per cell of the map, each frame draws the darkened cells in the view
+ * </p>
+ * <p>
+ * a camera zoomed out sees too many cells to darken them one by one, then the whole view is darkened at once
+ * and the cells of the area in the view are drawn again over it
+ * </p>
+ */
+public class SelectionOverlay {
+    private static final float OPACITY = 0.7f;
+
+    private final GameMap gameMap;
+    private final HexBitboard area;
+    /**
+     * cells of the area as x * height + y
+     */
+    private final IntArray cells = new IntArray();
+    private boolean shown;
+    private int firstColumn, lastColumn, firstRow, lastRow;
+
+    public SelectionOverlay(GameMap gameMap) {
+        this.gameMap = gameMap;
+        this.area = new HexBitboard(gameMap.getWidth(), gameMap.getHeight());
+    }
+
+    /**
+     * replaces the selected area by the cells of the list
+     */
+    public void select(CellList list) {
+        clearArea();
+        for (int i = 0; i < list.size(); ++i) {
+            int x = list.getX(i), y = list.getY(i);
+            if (area.get(x, y)) continue;
+            area.set(x, y);
+            cells.add(x * area.height + y);
+        }
+        shown = true;
+    }
+
+    public void clear() {
+        clearArea();
+        shown = false;
+    }
+
+    public boolean isShown() {
+        return shown;
+    }
+
+    /**
+     * @return true if a selection is shown and the cell is in it
+     */
+    public boolean contains(int x, int y) {
+        return shown && area.get(x, y);
+    }
+
+    /**
+     * @return number of cells in the selected area
+     */
+    public int size() {
+        return cells.size;
+    }
+
+    /**
+     * draws the darkened cells in the view, the batch has to have the projection of the view and not be drawing
+     *
+     * @param zoomedOut true to darken the view and draw the area again instead of darkening every cell
+     */
+    public void render(Batch batch, Rectangle view, boolean zoomedOut) {
+        if (!shown) return;
+        clip(view);
+        if (zoomedOut) {
+            renderZoomedOut(batch, view);
+            return;
+        }
+        TiledMapTile tile = TileRegistry.black();
+        TextureRegion region = tile.getTextureRegion();
+
+        float color = batch.getPackedColor();
+        batch.begin();
+        batch.setColor(1, 1, 1, OPACITY);
+        for (int x = firstColumn; x <= lastColumn; ++x) {
+            for (int y = firstRow; y <= lastRow; ++y) {
+                if (area.get(x, y)) continue;
+                batch.draw(region,
+                        HexagonUtils.countXLayout(x, y) * tileWidth + tile.getOffsetX(),
+                        HexagonUtils.countYLayout(x, y) * tileHeight + tile.getOffsetY());
+            }
+        }
+        batch.setPackedColor(color);
+        batch.end();
+    }
+
+    private void renderZoomedOut(Batch batch, Rectangle view) {
+        TextureRegion black = TileRegistry.black().getTextureRegion();
+        float u = (black.getU() + black.getU2()) / 2, v = (black.getV() + black.getV2()) / 2;
+        float left = Math.max(view.x, 0), bottom = Math.max(view.y, 0);
+        float right = Math.min(view.x + view.width, HexagonUtils.layoutWidth(area.width));
+        float top = Math.min(view.y + view.height, HexagonUtils.layoutHeight(area.height));
+
+        float color = batch.getPackedColor();
+        batch.begin();
+        batch.setColor(1, 1, 1, OPACITY);
+        batch.draw(black.getTexture(), left, bottom, right - left, top - bottom, u, v, u, v);
+        batch.setPackedColor(color);
+        for (int x = firstColumn; x <= lastColumn; ++x) {
+            for (int y = firstRow; y <= lastRow; ++y) {
+                if (!area.get(x, y)) continue;
+                draw(batch, TileRegistry.get(gameMap.getType(x, y)), x, y);
+                GameObject gameObject = gameMap.getGameObject(x, y);
+                if (gameObject != null) draw(batch, TileRegistry.get(gameObject), x, y);
+            }
+        }
+        batch.end();
+    }
+
+    /**
+     * keeps the columns and rows of the map that overlap the view
+     */
+    private void clip(Rectangle view) {
+        firstColumn = Math.max(HexagonUtils.firstVisibleColumn(view), 0);
+        lastColumn = Math.min(HexagonUtils.lastVisibleColumn(view), area.width - 1);
+        firstRow = Math.max(HexagonUtils.firstVisibleRow(view), 0);
+        lastRow = Math.min(HexagonUtils.lastVisibleRow(view), area.height - 1);
+    }
+
+    private static void draw(Batch batch, TiledMapTile tile, int x, int y) {
+        if (tile == null) return;
+        batch.draw(tile.getTextureRegion(),
+                HexagonUtils.countXLayout(x, y) * tileWidth + tile.getOffsetX(),
+                HexagonUtils.countYLayout(x, y) * tileHeight + tile.getOffsetY());
+    }
+
+    private void clearArea() {
+        for (int i = 0; i < cells.size; ++i) {
+            area.clear(cells.get(i) / area.height, cells.get(i) % area.height);
+        }
+        cells.clear();
+    }
+}
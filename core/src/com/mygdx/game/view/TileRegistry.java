@@ -0,0 +1,75 @@
+package com.mygdx.game.view;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
+import com.mygdx.game.ProjectVariables;
+import com.mygdx.game.model.gameobjects.GameObject;
+import com.mygdx.game.model.gameobjects.GameObjectTypes;
+import com.mygdx.game.model.maps.Border;
+import com.mygdx.game.model.maps.CellType;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * Tiles of the model types, each texture is loaded on first use.
+ * </p>
+ * <p>
+ * the model only keeps the paths of its textures, so it works without a GL context;
+ * tiles have to be asked for on the rendering thread
+ * </p>
+ */
+public final class TileRegistry {
+    private static final Map<String, TiledMapTile> tiles = new HashMap<>();
+    /**
+     * texture of every type of {@link GameObjectTypes}, indexed by the type id
+     */
+    private static final String[] gameObjectTextures = {
+            ProjectVariables.peasantTexture,
+            ProjectVariables.militiaTexture,
+            ProjectVariables.knightTexture,
+            ProjectVariables.paladinTexture,
+            ProjectVariables.farmTexture,
+            ProjectVariables.towerTexture,
+            ProjectVariables.superTowerTexture,
+            ProjectVariables.capitalTexture
+    };
+
+    private TileRegistry() {
+    }
+
+    /**
+     * @return tile of the cell type, null for undefined cells
+     */
+    public static TiledMapTile get(CellType type) {
+        return load(type.texture());
+    }
+
+    public static TiledMapTile get(GameObject gameObject) {
+        return load(gameObjectTextures[gameObject.type]);
+    }
+
+    /**
+     * @return tile of the border with neighbour neighbourNumber, null if there is no such neighbour
+     */
+    public static TiledMapTile get(Border border, int neighbourNumber) {
+        return load(border.getTexture(neighbourNumber));
+    }
+
+    /**
+     * @return tile that darkens the cells out of a selection
+     */
+    public static TiledMapTile black() {
+        return load(ProjectVariables.blackTexture);
+    }
+
+    private static TiledMapTile load(String texture) {
+        if (texture == null) return null;
+        return tiles.computeIfAbsent(texture,
+                path -> new StaticTiledMapTile(new TextureRegion(new Texture(Gdx.files.internal(path)))));
+    }
+}
@@ -4,43 +4,55 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.scenes.scene2d.Group;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
+import com.badlogic.gdx.scenes.scene2d.InputListener;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
-import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.scenes.scene2d.utils.DragListener;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.ScreenUtils;
-import com.mygdx.game.ProjectVariables.*;
-import com.mygdx.game.model.maps.MapToRendererTransformator;
-import com.mygdx.game.controllers.actors.TiledMapActor;
+import com.mygdx.game.ProjectVariables;
+import com.mygdx.game.view.MapToRendererTransformator;
 import com.mygdx.game.controllers.listeners.game_cl.*;
 import com.mygdx.game.model.GamingProcess;
 import com.mygdx.game.model.gameobjects.GameObject;
+import com.mygdx.game.model.gameobjects.GameObjectTypes;
 import com.mygdx.game.model.gameobjects.buildings.Farm;
 import com.mygdx.game.model.gameobjects.buildings.SuperTower;
 import com.mygdx.game.model.gameobjects.buildings.Tower;
 import com.mygdx.game.model.gameobjects.units.*;
+import com.mygdx.game.model.maps.CellList;
 import com.mygdx.game.model.maps.CellType;
 import com.mygdx.game.model.maps.GameMap;
 import com.mygdx.game.model.maps.MapCell;
 import com.mygdx.game.model.players.Player;
 import com.mygdx.game.model.players.PlayerStats;
+import com.mygdx.game.utils.HexagonUtils;
 import com.mygdx.game.utils.TurnState;
 import com.mygdx.game.view.ArtofWar;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.function.BiFunction;
 
 public class MainGameStage extends Stage implements Screen {
     private final ArtofWar artofWar;
     private final OrthographicCamera camera = new OrthographicCamera();
     private final MapToRendererTransformator mapToRendererTransformator;
     private GameMap gameMap;
-    private Group selectedArea;
-    private final Group movableActors = new Group();
+    /**
+     * action on the cells of the selected area, null when nothing is selected
+     */
+    private CellActionCL selectedAreaAction;
+    /**
+     * action on the other cells of land, null until the capitals are placed
+     */
+    private CellActionCL cellAction;
+    private final Vector2 clickPoint = new Vector2();
+    private final Vector3 mapPoint = new Vector3();
     private Group controls;
 
     private GamingProcess gamingProcess;
@@ -49,18 +61,26 @@ public class MainGameStage extends Stage implements Screen {
     public MainGameStage(GameMap gameMap, GamingProcess gamingProcess, ArtofWar artofWar) {
         this.artofWar = artofWar;
         this.gameMap = gameMap;
-        this.mapToRendererTransformator = new MapToRendererTransformator(gameMap);
+        this.mapToRendererTransformator = new MapToRendererTransformator(gameMap, gamingProcess.getTurnOrder());
         this.gamingProcess = gamingProcess;
         artofWar.factory.setGameStage(this);
-        addActor(movableActors);
+        addActor(artofWar.factory.createHexGridActor(new MapInputCL(this)));
         placeCapitalArea();
         camera.setToOrtho(false, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
         addListener(
                 new DragListener() {
                     @Override
                     public void drag(InputEvent event, float x, float y, int pointer) {
-                        camera.position.set(camera.position.x - getDeltaX(), camera.position.y - getDeltaY(), 0);
-                        movableActors.moveBy(getDeltaX(), getDeltaY());
+                        camera.position.set(camera.position.x - getDeltaX() * camera.zoom, camera.position.y - getDeltaY() * camera.zoom, 0);
+                    }
+                }
+        );
+        addListener(
+                new InputListener() {
+                    @Override
+                    public boolean scrolled(InputEvent event, float x, float y, float amountX, float amountY) {
+                        zoom(amountY);
+                        return true;
                     }
                 }
         );
@@ -75,35 +95,38 @@ public class MainGameStage extends Stage implements Screen {
                 if (gamingProcess.getRound() == 0) {
                     placeCapitalArea();
                 } else {
-                    selectArea(PlaceToCellCL::new, gameMap.getPlayerTerritory(gamingProcess.getCurrentPlayer().id));
+                    selectArea(new PlaceToCellCL(this), gameMap.getTerritory(gamingProcess.getCurrentPlayer().id));
                 }
             }
         }
         if (gamingProcess.getRound() > 0) updateInfo();
     }
 
-    public void moveUnit(Unit unit, int x, int y) {
-        int xOld = unit.getPlacement().x;
-        int yOld = unit.getPlacement().y;
+    /**
+     * zooms the camera in for negative amounts and out for positive ones, up to the zoom showing the whole map
+     */
+    public void zoom(float amount) {
+        float mapWidth = HexagonUtils.layoutWidth(gameMap.getWidth());
+        float mapHeight = HexagonUtils.layoutHeight(gameMap.getHeight());
+        float maxZoom = Math.max(1, Math.max(mapWidth / camera.viewportWidth, mapHeight / camera.viewportHeight));
+        camera.zoom = MathUtils.clamp(camera.zoom * (float) Math.pow(1.1, amount), ProjectVariables.minZoom, maxZoom);
+    }
 
+    public void moveUnit(Unit unit, int x, int y) {
         gamingProcess.moveUnit(unit, x, y);
         clearSelectedArea();
-
-        mapToRendererTransformator.update(xOld, yOld, gamingProcess.getTurnOrder());
-        mapToRendererTransformator.update(x, y, gamingProcess.getTurnOrder());
     }
 
     public void selectUnit(Unit unit, int x, int y) {
         clearSelectedArea();
         gamingProcess.setUnitSelection(unit);
-        selectArea(MoveToCellCL::new, gameMap.selectCellsToMove(x, y));
+        selectArea(new MoveToCellCL(this), gameMap.getMovementRange(x, y));
     }
 
     public void placeCapitalFirstRound(int x, int y) {
         clearSelectedArea();
         gamingProcess.createCapitalArea(gamingProcess.getCurrentPlayer(), x, y);
         if (gamingProcess.isLast()) loadActors();
-        mapToRendererTransformator.update(x, y, gamingProcess.getTurnOrder());
         nexTurn();
     }
 
@@ -112,8 +135,8 @@ public class MainGameStage extends Stage implements Screen {
         clearSelectedArea();
         gamingProcess.setGameObjectSelection(gameObject);
         selectArea(
-                PlaceToCellCL::new,
-                gameMap.getPlayerTerritory(gamingProcess.getCurrentPlayer().id)
+                new PlaceToCellCL(this),
+                gameMap.getTerritory(gamingProcess.getCurrentPlayer().id)
         );
     }
 
@@ -122,11 +145,6 @@ public class MainGameStage extends Stage implements Screen {
         gamingProcess.placeNewGameObjectOnCell(gameObject, x, y);
         updateInfo();
         getRoot().findActor("next turn").setVisible(true);
-        mapToRendererTransformator.update(x, y, gamingProcess.getTurnOrder());
-    }
-
-    public Group getMovableActors() {
-        return movableActors;
     }
 
     public void setMap(GameMap GameMap) {
@@ -148,55 +166,73 @@ public class MainGameStage extends Stage implements Screen {
         Label name = controls.findActor("name");
         Label farm = controls.findActor("farm");
         Label gold = controls.findActor("gold");
-        farm.setText((BuildingSpec.defaultFarmCost + gamingProcess.getCurrentPlayer().getFarmsNumber() * BuildingSpec.additionalFarmCost) + " G");
-        name.setText(gamingProcess.getCurrentPlayer().name);
-        gold.setText(gamingProcess.getCurrentPlayer().getGold() + "");
+        Label projection = controls.findActor("projection");
+        Player player = gamingProcess.getCurrentPlayer();
+        farm.setText(farmCostText(player));
+        name.setText(player.name);
+        gold.setText(player.getGold() + "");
+        projection.setText(projectionText(player));
+    }
+
+    private static String farmCostText(Player player) {
+        return (GameObjectTypes.getCost(GameObjectTypes.FARM) + player.getFarmsNumber() * GameObjectTypes.getAdditionalCost(GameObjectTypes.FARM)) + " G";
+    }
+
+    /**
+     * @return income of a turn and gold in {@link com.mygdx.game.ProjectVariables#projectedTurns} turns, read from the ledger
+     */
+    private static String projectionText(Player player) {
+        int income = player.getIncome();
+        return (income >= 0 ? " +" : " ") + income + ", in " + ProjectVariables.projectedTurns + " turns: " + player.projectGold(ProjectVariables.projectedTurns);
     }
 
     public void placeCapitalArea() {
-        selectArea(PlaceCapitalFirstRoundCL::new, gameMap.getPlayerTerritory(Player.NOBODY.id));
+        gameMap.sampleCapitalLand();
+        selectArea(new PlaceCapitalFirstRoundCL(this), gameMap.getTerritory(Player.NOBODY.id));
     }
 
     public void loadActors() {
-        createActorsLayer();
+        cellAction = new SelectCellCL(this);
         createControls();
-        movableActors.toBack();
     }
 
-    private void createActorsLayer() {
-        Group cellActors = new Group();
-        cellActors.setName("cellActors");
-        for (int i = 0; i < gameMap.getWidth(); ++i) {
-            for (int j = 0; j < gameMap.getHeight(); ++j) {
-                if (gameMap.getMapCreator().getCells()[i][j].getType() == CellType.WATER) continue;
-                TiledMapActor actor = artofWar.factory.createTiledMapActor(gameMap.getCell(i, j), new SelectCellCL(this, gameMap.getCell(i, j)), 2);
-                cellActors.addActor(actor);
-            }
-        }
-        movableActors.addActor(cellActors);
+    /**
+     * finds the cell under the point of the stage through the camera and clicks it
+     */
+    public void clickAt(float stageX, float stageY) {
+        stageToScreenCoordinates(clickPoint.set(stageX, stageY));
+        camera.unproject(mapPoint.set(clickPoint.x, clickPoint.y, 0));
+        int x = HexagonUtils.columnAt(mapPoint.x, mapPoint.y);
+        int y = HexagonUtils.rowAt(x, mapPoint.y);
+        if (x < 0 || x >= gameMap.getWidth() || y < 0 || y >= gameMap.getHeight()) return;
+        clickCell(x, y);
     }
 
-    public void selectArea(BiFunction<MainGameStage, MapCell, ClickListener> listenerCreator, int[][] area) {
-        selectedArea = new Group();
-        for (int i = 0; i < gameMap.getWidth(); ++i) {
-            for (int j = 0; j < gameMap.getHeight(); ++j) {
-                if (area[i][j] != -1) {
-                    TiledMapActor actor = artofWar.factory.createTiledMapActor(gameMap.getCell(i, j), listenerCreator.apply(this, gameMap.getCell(i, j)), 3);
-                    selectedArea.addActor(actor);
-                }
-            }
+    /**
+     * runs the action of the selected area on its cells and the action of the other cells of land elsewhere
+     */
+    public void clickCell(int x, int y) {
+        MapCell cell = gameMap.getCell(x, y);
+        if (selectedAreaAction != null && mapToRendererTransformator.getSelection().contains(x, y)) {
+            selectedAreaAction.clicked(cell);
+            return;
         }
-        mapToRendererTransformator.createSelectedArea(area);
-        movableActors.addActor(selectedArea);
+        if (cellAction != null && cell.getType() != CellType.WATER) cellAction.clicked(cell);
+    }
+
+    /**
+     * selects the cells of the list, walking the list instead of the whole map
+     */
+    public void selectArea(CellActionCL action, CellList area) {
+        mapToRendererTransformator.getSelection().select(area);
+        selectedAreaAction = action;
     }
 
     public void clearSelectedArea() {
-        movableActors.getChild(0).setVisible(true);
-        movableActors.removeActor(selectedArea);
-        mapToRendererTransformator.clearSelectedArea();
+        mapToRendererTransformator.getSelection().clear();
         gamingProcess.setGameObjectSelection(null);
         gamingProcess.setUnitSelection(null);
-        selectedArea = null;
+        selectedAreaAction = null;
     }
 
     public void endGame() {
@@ -256,35 +292,35 @@ public class MainGameStage extends Stage implements Screen {
                 0, 0,
                 new Texture(Gdx.files.internal("button/peasant_button.png")),
                 new GameObjectCreationCL(this, Peasant.class),
-                UnitSpec.peasantCost + " G"
+                GameObjectTypes.getCost(GameObjectTypes.PEASANT) + " G"
         );
 
         Button militia = artofWar.factory.createImageTextButton(
                 0, 0,
                 new Texture(Gdx.files.internal("button/militia_button.png")),
                 new GameObjectCreationCL(this, Militia.class),
-                UnitSpec.militiaCost + " G"
+                GameObjectTypes.getCost(GameObjectTypes.MILITIA) + " G"
         );
 
         Button knight = artofWar.factory.createImageTextButton(
                 0, 0,
                 new Texture(Gdx.files.internal("button/knight_button.png")),
                 new GameObjectCreationCL(this, Knight.class),
-                UnitSpec.knightCost + " G"
+                GameObjectTypes.getCost(GameObjectTypes.KNIGHT) + " G"
         );
 
         Button paladin = artofWar.factory.createImageTextButton(
                 0, 0,
                 new Texture(Gdx.files.internal("button/paladin_button.png")),
                 new GameObjectCreationCL(this, Paladin.class),
-                UnitSpec.paladinCost + " G"
+                GameObjectTypes.getCost(GameObjectTypes.PALADIN) + " G"
         );
 
         Button farm = artofWar.factory.createImageTextButton(
                 0, 0,
                 new Texture(Gdx.files.internal("button/farm_button.png")),
                 new GameObjectCreationCL(this, Farm.class),
-                (BuildingSpec.defaultFarmCost + gamingProcess.getCurrentPlayer().getFarmsNumber() * BuildingSpec.additionalFarmCost) + " G"
+                farmCostText(gamingProcess.getCurrentPlayer())
         );
         farm.getChild(1).setName("farm");
 
@@ -292,14 +328,14 @@ public class MainGameStage extends Stage implements Screen {
                 0, 0,
                 new Texture(Gdx.files.internal("button/tower_button.png")),
                 new GameObjectCreationCL(this, Tower.class),
-                BuildingSpec.towerCost + " G"
+                GameObjectTypes.getCost(GameObjectTypes.TOWER) + " G"
         );
 
         Button supertower = artofWar.factory.createImageTextButton(
                 0, 0,
                 new Texture(Gdx.files.internal("button/superTower_button.png")),
                 new GameObjectCreationCL(this, SuperTower.class),
-                BuildingSpec.superTowerCost + " G"
+                GameObjectTypes.getCost(GameObjectTypes.SUPER_TOWER) + " G"
         );
 
         Button nextTurn = artofWar.factory.createImageButton(
@@ -330,11 +366,14 @@ public class MainGameStage extends Stage implements Screen {
         Image goldPic = new Image(new Texture(Gdx.files.internal("button/coin_2.png")));
         Label gold = artofWar.factory.createLabel(0, 0, gamingProcess.getCurrentPlayer().getGold() + "");
         gold.setName("gold");
+        Label projection = artofWar.factory.createLabel(0, 0, projectionText(gamingProcess.getCurrentPlayer()));
+        projection.setName("projection");
 
 
         currentTurnInfo.addActor(playerName);
         currentTurnInfo.addActor(goldPic);
         currentTurnInfo.addActor(gold);
+        currentTurnInfo.addActor(projection);
 
 
         controls.addActor(nextTurn);
@@ -354,8 +393,7 @@ public class MainGameStage extends Stage implements Screen {
     public void render(float delta) {
         ScreenUtils.clear(0, 0, 0.2f, 1);
         camera.update();
-        mapToRendererTransformator.getRenderer().setView(camera);
-        mapToRendererTransformator.getRenderer().render();
+        mapToRendererTransformator.render(camera);
         act();
         draw();
     }
@@ -382,6 +420,6 @@ public class MainGameStage extends Stage implements Screen {
     @Override
     public void dispose() {
         super.dispose();
-        mapToRendererTransformator.getRenderer().dispose();
+        mapToRendererTransformator.dispose();
     }
 }
@@ -91,15 +91,18 @@ public class MenuStage extends Stage implements Screen {
         playersNumber.addListener(new FillCL(this));
         playersNumber.moveBy(150, 150);
 
-        mapWidth = artofWar.factory.createIntSpinner(10, 125, "Width of map");
+        mapWidth = artofWar.factory.createIntSpinner(ProjectVariables.minMapSize, ProjectVariables.maxMapSize, "Width of map");
         mapWidth.moveBy(150, 250);
 
-        mapHeight = artofWar.factory.createIntSpinner(10, 125, "Height of map");
+        mapHeight = artofWar.factory.createIntSpinner(ProjectVariables.minMapSize, ProjectVariables.maxMapSize, "Height of map");
         mapHeight.moveBy(150, 350);
 
+        Label largeMaps = artofWar.factory.createLabel(150, 420, "Maps of more than 125x125 cells are islands without one central continent");
+
         preGame.addActor(playersNumber);
         preGame.addActor(mapWidth);
         preGame.addActor(mapHeight);
+        preGame.addActor(largeMaps);
         preGame.addActor(startGame);
 
         createPlayerTable();
@@ -120,7 +123,8 @@ public class MenuStage extends Stage implements Screen {
         } catch (NumberFormatException e) {
             return;
         }
-        if (width < 10 || width > 125 || height < 10 || height > 125) return;
+        if (width < ProjectVariables.minMapSize || width > ProjectVariables.maxMapSize
+                || height < ProjectVariables.minMapSize || height > ProjectVariables.maxMapSize) return;
 
         List<String> players = new ArrayList<>();
         Table table = preGame.findActor("names table");
@@ -0,0 +1,165 @@
+package com.mygdx.game.model;
+
+import com.badlogic.gdx.Gdx;
+import com.mygdx.game.db.GameDatabase;
+import com.mygdx.game.model.gameobjects.buildings.Tower;
+import com.mygdx.game.model.gameobjects.units.Peasant;
+import com.mygdx.game.model.maps.Border;
+import com.mygdx.game.model.maps.CellListener;
+import com.mygdx.game.model.maps.CellType;
+import com.mygdx.game.model.maps.GameMap;
+import com.mygdx.game.model.maps.MapCell;
+import com.mygdx.game.model.players.Player;
+import com.mygdx.game.utils.TurnState;
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GamingProcessTest {
+
+    @Test
+    void gameWithoutGraphicsTest() throws Exception {
+        assertThat(Gdx.gl).isNull();
+        assertThat(Gdx.graphics).isNull();
+
+        GameMap gameMap = new GameMap(30, 30, 0, 42);
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite::memory:")) {
+            connection.setAutoCommit(false);
+            GameDatabase gameDatabase = new GameDatabase(connection);
+            List<Player> players = List.of(
+                    new Player(gameDatabase.insertPlayerAndGetId("first"), "first", Border.get(0)),
+                    new Player(gameDatabase.insertPlayerAndGetId("second"), "second", Border.get(1))
+            );
+            int gameId = gameDatabase.insertGame(players.size(), gameMap.getSeed(), gameMap.getWidth(), gameMap.getHeight());
+            GamingProcess gamingProcess = new GamingProcess(gameMap, gameDatabase, players, gameId);
+
+            for (Player player : players) {
+                MapCell cell = findCell(gameMap, c -> c.getOwnerId() == Player.NOBODY.id && c.getGameObject() == null);
+                gamingProcess.createCapitalArea(player, cell.x, cell.y);
+            }
+            TurnState state = null;
+            for (int i = 0; i < 6; ++i) {
+                state = gamingProcess.nextTurn();
+            }
+            assertThat(state).isEqualTo(TurnState.OK);
+            assertThat(gamingProcess.getRound()).isPositive();
+
+            Player player = gamingProcess.getCurrentPlayer();
+            assertThat(player.getCapital()).isNotNull();
+            MapCell cell = findCell(gameMap, c -> c.getOwnerId() == player.id && c.getGameObject() == null);
+            gamingProcess.placeNewGameObjectOnCell(new Peasant(gameMap, null, player), cell.x, cell.y);
+            assertThat(cell.getGameObject()).isInstanceOf(Peasant.class);
+            assertThat(gameMap.selectCellsToMove(cell.x, cell.y)).isNotNull();
+
+            assertThat(gamingProcess.nextTurn()).isEqualTo(TurnState.OK);
+            for (Player other : gamingProcess.getPlayers().values()) {
+                assertThat(other.getTerritories()).isEqualTo(gameMap.getTerritory(other.id).size());
+            }
+        }
+    }
+
+    @Test
+    void actionsAllocateNothingTest() throws Exception {
+        GameMap gameMap = new GameMap(30, 30, 0, 42);
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite::memory:")) {
+            connection.setAutoCommit(false);
+            GameDatabase gameDatabase = new GameDatabase(connection);
+            List<Player> players = List.of(
+                    new Player(gameDatabase.insertPlayerAndGetId("first"), "first", Border.get(0)),
+                    new Player(gameDatabase.insertPlayerAndGetId("second"), "second", Border.get(1))
+            );
+            int gameId = gameDatabase.insertGame(players.size(), gameMap.getSeed(), gameMap.getWidth(), gameMap.getHeight());
+            GamingProcess gamingProcess = new GamingProcess(gameMap, gameDatabase, players, gameId);
+            for (Player player : players) {
+                MapCell cell = findCell(gameMap, c -> c.getOwnerId() == Player.NOBODY.id && c.getGameObject() == null);
+                gamingProcess.createCapitalArea(player, cell.x, cell.y);
+            }
+            for (int i = 0; i < 6; ++i) {
+                gamingProcess.nextTurn();
+            }
+
+            Player player = gamingProcess.getCurrentPlayer();
+            MapCell from = findCell(gameMap, c -> c.getOwnerId() == player.id && c.getGameObject() == null);
+            Peasant peasant = new Peasant(gameMap, null, player);
+            gamingProcess.placeNewGameObjectOnCell(peasant, from.x, from.y);
+            MapCell to = findCell(gameMap, c -> c.getOwnerId() == player.id && c.getGameObject() == null);
+            gamingProcess.placeNewGameObjectOnCell(new Tower(gameMap, null, player), to.x, to.y);
+            MapCell place = findCell(gameMap, c -> c.getOwnerId() == player.id && c.getGameObject() == null);
+            Tower[] towers = {new Tower(gameMap, null, player), new Tower(gameMap, null, player)};
+            gameMap.removeGameObject(to.getGameObject());
+
+            ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+            long thread = Thread.currentThread().getId();
+            long allocated = 0;
+            for (int round = 0; round < 3; ++round) {
+                long before = threads.getThreadAllocatedBytes(thread);
+                for (int i = 0; i < 1000; ++i) {
+                    gamingProcess.moveUnit(peasant, to.x, to.y);
+                    gamingProcess.moveUnit(peasant, from.x, from.y);
+                    gamingProcess.placeNewGameObjectOnCell(towers[i % 2], place.x, place.y);
+                }
+                allocated = threads.getThreadAllocatedBytes(thread) - before;
+            }
+            assertThat(allocated).isZero();
+            assertThat(from.getGameObject()).isSameAs(peasant);
+            assertThat(place.getGameObject()).isSameAs(towers[1]);
+            assertThat(player.getBuildings().contains(towers[0])).isFalse();
+            assertThat(player.getTerritories()).isEqualTo(gameMap.getTerritory(player.id).size());
+        }
+    }
+
+    @Test
+    void wipedArmyReachesCellListenersTest() throws Exception {
+        GameMap gameMap = new GameMap(30, 30, 0, 42);
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite::memory:")) {
+            connection.setAutoCommit(false);
+            GameDatabase gameDatabase = new GameDatabase(connection);
+            List<Player> players = List.of(
+                    new Player(gameDatabase.insertPlayerAndGetId("first"), "first", Border.get(0)),
+                    new Player(gameDatabase.insertPlayerAndGetId("second"), "second", Border.get(1))
+            );
+            int gameId = gameDatabase.insertGame(players.size(), gameMap.getSeed(), gameMap.getWidth(), gameMap.getHeight());
+            GamingProcess gamingProcess = new GamingProcess(gameMap, gameDatabase, players, gameId);
+            for (Player player : players) {
+                MapCell cell = findCell(gameMap, c -> c.getOwnerId() == Player.NOBODY.id && c.getGameObject() == null);
+                gamingProcess.createCapitalArea(player, cell.x, cell.y);
+            }
+            for (int i = 0; i < 6; ++i) {
+                gamingProcess.nextTurn();
+            }
+            Player player = gamingProcess.getCurrentPlayer();
+            MapCell cell = findCell(gameMap, c -> c.getOwnerId() == player.id && c.getGameObject() == null);
+            gamingProcess.placeNewGameObjectOnCell(new Peasant(gameMap, null, player), cell.x, cell.y);
+
+            List<MapCell> changed = new ArrayList<>();
+            CellListener listener = (x, y) -> changed.add(gameMap.getCell(x, y));
+            gameMap.addCellListener(listener);
+            gamingProcess.wipePlayerArmy(player);
+            assertThat(cell.getGameObject()).isNull();
+            assertThat(changed).contains(cell);
+
+            changed.clear();
+            gameMap.removeCellListener(listener);
+            gamingProcess.placeNewGameObjectOnCell(new Peasant(gameMap, null, player), cell.x, cell.y);
+            assertThat(changed).isEmpty();
+        }
+    }
+
+    private static MapCell findCell(GameMap gameMap, Predicate<MapCell> condition) {
+        for (int x = 0; x < gameMap.getWidth(); ++x) {
+            for (int y = 0; y < gameMap.getHeight(); ++y) {
+                MapCell cell = gameMap.getCell(x, y);
+                if (cell.getType() != CellType.WATER && condition.test(cell)) return cell;
+            }
+        }
+        throw new IllegalStateException("No such cell");
+    }
+}
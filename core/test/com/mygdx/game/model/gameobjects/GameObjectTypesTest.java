@@ -0,0 +1,119 @@
+package com.mygdx.game.model.gameobjects;
+
+import com.mygdx.game.model.gameobjects.buildings.Capital;
+import com.mygdx.game.model.gameobjects.buildings.Farm;
+import com.mygdx.game.model.gameobjects.buildings.SuperTower;
+import com.mygdx.game.model.gameobjects.buildings.Tower;
+import com.mygdx.game.model.gameobjects.units.Knight;
+import com.mygdx.game.model.gameobjects.units.Militia;
+import com.mygdx.game.model.gameobjects.units.Paladin;
+import com.mygdx.game.model.gameobjects.units.Peasant;
+import com.mygdx.game.model.gameobjects.units.Unit;
+import com.mygdx.game.model.players.Player;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+
+import static com.mygdx.game.ProjectVariables.BuildingSpec.*;
+import static com.mygdx.game.ProjectVariables.UnitSpec.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class GameObjectTypesTest {
+    private final Player player = new Player(1, "first", null);
+
+    @AfterEach
+    void reset() {
+        GameObjectTypes.reset();
+    }
+
+    @Test
+    void defaultsSameAsSpecTest() {
+        assertUnit(new Peasant(null, null, player), peasantPower, peasantDistance, peasantDefence, peasantCost, peasantMoneyPerTurn);
+        assertUnit(new Militia(null, null, player), militiaPower, militiaDistance, militiaDefence, militiaCost, militiaMoneyPerTurn);
+        assertUnit(new Knight(null, null, player), knightPower, knightDistance, knightDefence, knightCost, knightMoneyPerTurn);
+        assertUnit(new Paladin(null, null, player), paladinPower, paladinDistance, paladinDefence, paladinCost, paladinMoneyPerTurn);
+        assertObject(new Farm(null, null, player), farmDefence, defaultFarmCost, farmMoneyPerTurn);
+        assertObject(new Tower(null, null, player), towerDefence, towerCost, towerMoneyPerTurn);
+        assertObject(new SuperTower(null, null, player), superTowerDefence, superTowerCost, superTowerMoneyPerTurn);
+        assertObject(new Capital(null, null, player), capitalDefence, capitalCost, capitalMoneyPerTurn);
+        assertThat(GameObjectTypes.getAdditionalCost(GameObjectTypes.FARM)).isEqualTo(additionalFarmCost);
+        assertThat(GameObjectTypes.getAdditionalCost(GameObjectTypes.TOWER)).isZero();
+    }
+
+    @Test
+    void loadTest() throws Exception {
+        Knight knight = new Knight(null, null, player);
+        GameObjectTypes.load(new StringReader("""
+                # balance
+                knight.power = 4
+                farm.moneyPerTurn=6
+                """));
+        assertThat(knight.getPower()).isEqualTo(4);
+        assertThat(knight.getDistance()).isEqualTo(knightDistance);
+        assertThat(new Farm(null, null, player).getMoneyPerTurn()).isEqualTo(6);
+        assertThat(new Paladin(null, null, player).getPower()).isEqualTo(paladinPower);
+
+        GameObjectTypes.reset();
+        assertThat(knight.getPower()).isEqualTo(knightPower);
+    }
+
+    @Test
+    void wrongConfigTest() {
+        assertThatThrownBy(() -> GameObjectTypes.load(new StringReader("dragon.power=9")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> GameObjectTypes.load(new StringReader("knight.speed=9")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> GameObjectTypes.load(new StringReader("knight=9")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> GameObjectTypes.load(new StringReader("knight.power=strong")))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThatThrownBy(() -> GameObjectTypes.load(new StringReader("""
+                knight.power=9
+                paladin.power=9
+                knight.power.max=9
+                """))).isInstanceOf(IllegalArgumentException.class);
+        assertThat(GameObjectTypes.getPower(GameObjectTypes.KNIGHT)).isEqualTo(knightPower);
+        assertThat(GameObjectTypes.getPower(GameObjectTypes.PALADIN)).isEqualTo(paladinPower);
+    }
+
+    @Test
+    void outOfRangeConfigTest() {
+        assertThatThrownBy(() -> GameObjectTypes.load(new StringReader("tower.defence=" + (GameObjectTypes.MAX_DEFENCE + 1))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> GameObjectTypes.load(new StringReader("peasant.defence=-1")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> GameObjectTypes.load(new StringReader("knight.distance=-1")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> GameObjectTypes.load(new StringReader("farm.cost=-5")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> GameObjectTypes.load(new StringReader("""
+                knight.power=9
+                superTower.defence=11
+                """))).isInstanceOf(IllegalArgumentException.class);
+        assertThat(GameObjectTypes.getPower(GameObjectTypes.KNIGHT)).isEqualTo(knightPower);
+        assertThat(GameObjectTypes.getDefence(GameObjectTypes.SUPER_TOWER)).isEqualTo(superTowerDefence);
+
+        assertThatCode(() -> GameObjectTypes.load(new StringReader("""
+                tower.defence=10
+                militia.moneyPerTurn=-4
+                """))).doesNotThrowAnyException();
+        assertThat(GameObjectTypes.getDefence(GameObjectTypes.TOWER)).isEqualTo(GameObjectTypes.MAX_DEFENCE);
+        assertThat(GameObjectTypes.getMoneyPerTurn(GameObjectTypes.MILITIA)).isEqualTo(-4);
+    }
+
+    private static void assertUnit(Unit unit, int power, int distance, int defence, int cost, int moneyPerTurn) {
+        assertThat(unit.getPower()).isEqualTo(power);
+        assertThat(unit.getDistance()).isEqualTo(distance);
+        assertObject(unit, defence, cost, moneyPerTurn);
+    }
+
+    private static void assertObject(GameObject gameObject, int defence, int cost, int moneyPerTurn) {
+        assertThat(gameObject.getDefence()).isEqualTo(defence);
+        assertThat(gameObject.getCost()).isEqualTo(cost);
+        assertThat(gameObject.getMoneyPerTurn()).isEqualTo(moneyPerTurn);
+    }
+}
@@ -0,0 +1,19 @@
+package com.mygdx.game.model.maps;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BiomeTableTest {
+    @Test
+    void sameAsDefineBiomTest() {
+        for (int e = -1500; e <= 2500; ++e) {
+            for (int m = -1500; m <= 2500; m += e % 7 == 0 ? 1 : 13) {
+                double elevation = e / 1000.0, humidity = m / 1000.0;
+                assertThat(BiomeTable.get(elevation, humidity))
+                        .as("%s %s", elevation, humidity)
+                        .isEqualTo(CellType.defineBiom(elevation, humidity));
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.mygdx.game.model.maps;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static com.mygdx.game.model.maps.ChunkedMapStorage.CHUNK_SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ChunkGeneratorTest {
+    /**
+     * every chunk of the map, the ones at its edges and the cut ones included, has the land of the passes
+     * counted cell by cell
+     */
+    @ParameterizedTest
+    @CsvSource({"130, 130, 7", "200, 150, 1234", "97, 300, 2023"})
+    void sameAsCountingTest(int width, int height, long seed) {
+        ChunkGenerator generator = new ChunkGenerator(width, height, seed);
+        for (int x0 = 0; x0 < width; x0 += CHUNK_SIZE) {
+            for (int y0 = 0; y0 < height; y0 += CHUNK_SIZE) {
+                MapCellStorage chunk = new MapCellStorage(Math.min(CHUNK_SIZE, width - x0), Math.min(CHUNK_SIZE, height - y0));
+                generator.generate(chunk, x0, y0);
+                boolean[][] expected = countedLand(generator, width, height, x0, y0, chunk.width, chunk.height);
+                for (int i = 0; i < chunk.width; ++i) {
+                    for (int j = 0; j < chunk.height; ++j) {
+                        assertThat(chunk.getType(chunk.index(i, j)) != CellType.WATER)
+                                .as("land of (%d, %d)", x0 + i, y0 + j).isEqualTo(expected[i][j]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return land of the chunk after the passes, counting the neighbours of every cell of the chunk
+     * and an apron of {@link ChunkGenerator#SMOOTHING_PASSES} cells with bounds checks
+     */
+    private static boolean[][] countedLand(ChunkGenerator generator, int width, int height, int x0, int y0, int chunkWidth, int chunkHeight) {
+        int passes = ChunkGenerator.SMOOTHING_PASSES;
+        int ax0 = Math.max(0, x0 - passes), ay0 = Math.max(0, y0 - passes);
+        int ax1 = Math.min(width, x0 + chunkWidth + passes), ay1 = Math.min(height, y0 + chunkHeight + passes);
+        int w = ax1 - ax0, h = ay1 - ay0;
+        boolean[][] land = new boolean[w][h];
+        for (int i = 0; i < w; ++i) {
+            for (int j = 0; j < h; ++j) {
+                land[i][j] = generator.isLandSeed(ax0 + i, ay0 + j);
+            }
+        }
+        int[][] neighbours = new int[w][h];
+        for (int pass = 0; pass < passes; ++pass) {
+            for (int i = 0; i < w; ++i) {
+                int[][] nb = MapCreator.getNeighbours(ax0 + i);
+                for (int j = 0; j < h; ++j) {
+                    int cnt = 0;
+                    for (int[] d : nb) {
+                        int ni = i + d[0], nj = j + d[1];
+                        if (ni >= 0 && ni < w && nj >= 0 && nj < h && land[ni][nj]) ++cnt;
+                    }
+                    neighbours[i][j] = cnt;
+                }
+            }
+            for (int i = 0; i < w; ++i) {
+                for (int j = 0; j < h; ++j) {
+                    if (!land[i][j] && neighbours[i][j] >= 4) land[i][j] = true;
+                }
+            }
+        }
+        boolean[][] res = new boolean[chunkWidth][chunkHeight];
+        for (int i = 0; i < chunkWidth; ++i) {
+            for (int j = 0; j < chunkHeight; ++j) {
+                res[i][j] = land[x0 + i - ax0][y0 + j - ay0];
+            }
+        }
+        return res;
+    }
+}
@@ -0,0 +1,97 @@
+package com.mygdx.game.model.maps;
+
+import com.mygdx.game.model.players.Player;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static com.mygdx.game.model.maps.ChunkedMapStorage.CHUNK_SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ChunkedMapStorageTest {
+    @Test
+    void hugeMapOpensLazilyTest() {
+        long start = System.nanoTime();
+        GameMap gameMap = new GameMap(4096, 4096, 0, 77);
+        MapCell cell = gameMap.getCell(2048, 2048);
+        long elapsed = System.nanoTime() - start;
+
+        assertThat(cell).isNotNull();
+        assertThat(gameMap.getMapCreator()).isNull();
+        assertThat(elapsed).isLessThan(1_000_000_000L);
+        assertThat(gameMap.getCell(4096, 0)).isNull();
+        assertThat(gameMap.getCell(0, -1)).isNull();
+    }
+
+    @Test
+    void chunksGeneratedOnFirstAccessTest() {
+        ChunkedMapStorage storage = new ChunkedMapStorage(4096, 4096, 77);
+        assertThat(storage.getGeneratedChunks()).isZero();
+
+        storage.getCell(100, 100);
+        storage.getCell(101, 120);
+        assertThat(storage.getGeneratedChunks()).isOne();
+        assertThat(storage.isGenerated(96, 127)).isTrue();
+        assertThat(storage.isGenerated(128, 100)).isFalse();
+
+        int[] visited = new int[1];
+        storage.forEachCell((x, y) -> ++visited[0]);
+        assertThat(visited[0]).isEqualTo(CHUNK_SIZE * CHUNK_SIZE);
+    }
+
+    @Test
+    void chunkDoesNotDependOnAccessOrderTest() {
+        ChunkedMapStorage alone = new ChunkedMapStorage(300, 200, 5);
+        ChunkedMapStorage afterNeighbours = new ChunkedMapStorage(300, 200, 5);
+        for (int x = 0; x < 300; x += CHUNK_SIZE) {
+            for (int y = 0; y < 200; y += CHUNK_SIZE) {
+                afterNeighbours.getCell(x, y);
+            }
+        }
+
+        for (int x = CHUNK_SIZE - 3; x < 2 * CHUNK_SIZE + 3; ++x) {
+            for (int y = CHUNK_SIZE - 3; y < 2 * CHUNK_SIZE + 3; ++y) {
+                MapCell a = alone.getCell(x, y);
+                MapCell b = afterNeighbours.getCell(x, y);
+                assertThat(a.getType()).isEqualTo(b.getType());
+                assertThat(a.getOwnerId()).isEqualTo(b.getOwnerId());
+                assertThat(a.getElevation()).isEqualTo(b.getElevation());
+            }
+        }
+    }
+
+    /**
+     * the land part of a chunked map is not retried like the one of {@link MapCreator}, these seeds only show
+     * that it stays in the range the chunk generator is tuned for
+     */
+    @ParameterizedTest
+    @ValueSource(longs = {4, 9, 2023})
+    void landRatioTest(long seed) {
+        ChunkedMapStorage storage = new ChunkedMapStorage(512, 512, seed);
+        int land = 0;
+        for (int x = 0; x < 512; ++x) {
+            for (int y = 0; y < 512; ++y) {
+                MapCell cell = storage.getCell(x, y);
+                if (cell.getType() != CellType.WATER) {
+                    ++land;
+                    assertThat(cell.getOwnerId()).isEqualTo(Player.NOBODY.id);
+                }
+            }
+        }
+        assertThat(land / (512.0 * 512)).isBetween(0.25, 0.5);
+    }
+
+    @Test
+    void ownershipAcrossChunkBoundaryTest() {
+        GameMap gameMap = new GameMap(1000, 1000, 0, 11);
+        int x = CHUNK_SIZE - 1, y = CHUNK_SIZE - 1;
+        gameMap.getCell(x, y).setOwnerId(3);
+        gameMap.getCell(x + 1, y + 1).setOwnerId(3);
+
+        Territory territory = gameMap.getTerritory(3);
+        assertThat(territory.size()).isEqualTo(2);
+        assertThat(territory.contains(x, y)).isTrue();
+        assertThat(territory.contains(x + 1, y + 1)).isTrue();
+        assertThat(territory.contains(x + 1, y)).isFalse();
+    }
+}
@@ -0,0 +1,132 @@
+package com.mygdx.game.model.maps;
+
+import com.mygdx.game.model.gameobjects.GameObject;
+import com.mygdx.game.model.gameobjects.buildings.Capital;
+import com.mygdx.game.model.gameobjects.buildings.Farm;
+import com.mygdx.game.model.gameobjects.buildings.SuperTower;
+import com.mygdx.game.model.gameobjects.buildings.Tower;
+import com.mygdx.game.model.gameobjects.units.Knight;
+import com.mygdx.game.model.gameobjects.units.Militia;
+import com.mygdx.game.model.gameobjects.units.Paladin;
+import com.mygdx.game.model.gameobjects.units.Peasant;
+import com.mygdx.game.model.gameobjects.units.Unit;
+import com.mygdx.game.model.players.Player;
+import com.mygdx.game.utils.HexGrid;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+public class DefenceCoverageTest {
+    private static final int WINDOW = 40;
+
+    @ParameterizedTest
+    @MethodSource("maps")
+    void sameAsFullRecountTest(int width, int height, long seed, int x0, int y0) {
+        GameMap gameMap = new GameMap(width, height, 0, seed);
+        Random random = new Random(seed);
+        Player[] players = {new Player(1, "first", null), new Player(2, "second", null), new Player(3, "third", null)};
+        List<GameObject> objects = new ArrayList<>();
+
+        for (int step = 0; step < 600; ++step) {
+            int operation = random.nextInt(10);
+            if (operation < 5 || objects.isEmpty()) {
+                MapCell cell = TestMaps.randomLand(gameMap, random, x0, y0, WINDOW, WINDOW);
+                GameObject gameObject = randomObject(gameMap, players[random.nextInt(players.length)], random);
+                objects.remove(cell.getGameObject());
+                gameMap.setGameObject(gameObject, cell.x, cell.y);
+                objects.add(gameObject);
+                if (gameObject instanceof Capital capital) gameMap.createCapitalArea(capital);
+            } else if (operation < 7) {
+                GameObject gameObject = objects.remove(random.nextInt(objects.size()));
+                gameMap.removeGameObject(gameObject);
+            } else {
+                GameObject gameObject = objects.get(random.nextInt(objects.size()));
+                if (!(gameObject instanceof Unit unit)) continue;
+                MapCell cell = TestMaps.randomLand(gameMap, random, x0, y0, WINDOW, WINDOW);
+                if (cell.getGameObject() == unit) continue;
+                objects.remove(cell.getGameObject());
+                gameMap.removeGameObject(unit);
+                gameMap.setGameObject(unit, cell.x, cell.y);
+            }
+            assertCoverage(gameMap, objects, x0, y0);
+        }
+
+        gameMap.recountDefenceCoverage(toPlayers(players, objects));
+        assertCoverage(gameMap, objects, x0, y0);
+
+        for (GameObject gameObject : objects) {
+            gameMap.removeGameObject(gameObject);
+        }
+        objects.clear();
+        assertCoverage(gameMap, objects, x0, y0);
+    }
+
+    static Stream<Arguments> maps() {
+        return Stream.of(
+                arguments(30, 30, 42, 0, 0),
+                arguments(125, 125, 999, 40, 70),
+                arguments(200, 200, 7, 20, 50)
+        );
+    }
+
+    private static void assertCoverage(GameMap gameMap, List<GameObject> objects, int x0, int y0) {
+        int[][] expected = legacyRecountDefenceCoverage(gameMap, objects);
+        for (int x = Math.max(x0 - 1, 0); x < Math.min(x0 + WINDOW + 1, gameMap.getWidth()); ++x) {
+            for (int y = Math.max(y0 - 1, 0); y < Math.min(y0 + WINDOW + 1, gameMap.getHeight()); ++y) {
+                assertThat(gameMap.getCell(x, y).getDefence()).as("defence of (%d, %d)", x, y).isEqualTo(expected[x][y]);
+            }
+        }
+    }
+
+    /**
+     * defence of every cell counted from scratch as {@link GameMap#recountDefenceCoverage(Map)} did before
+     * the coverage was kept incrementally
+     */
+    private static int[][] legacyRecountDefenceCoverage(GameMap gameMap, List<GameObject> objects) {
+        int[][] defence = new int[gameMap.getWidth()][gameMap.getHeight()];
+        for (GameObject gameObject : objects) {
+            MapCell placement = gameObject.getPlacement();
+            for (int[] nb : HexGrid.getNeighbours(placement.x)) {
+                MapCell cell = gameMap.getCell(placement.x + nb[0], placement.y + nb[1]);
+                if (cell == null || cell.getOwnerId() != gameObject.ownerId) continue;
+                defence[cell.x][cell.y] = Math.max(defence[cell.x][cell.y], gameObject.getDefence());
+            }
+            defence[placement.x][placement.y] = Math.max(defence[placement.x][placement.y], gameObject.getDefence());
+        }
+        return defence;
+    }
+
+    private static Map<Integer, Player> toPlayers(Player[] players, List<GameObject> objects) {
+        Map<Integer, Player> res = new HashMap<>();
+        for (Player player : players) {
+            res.put(player.id, player);
+        }
+        for (GameObject gameObject : objects) {
+            res.get(gameObject.ownerId).addGameObject(gameObject);
+        }
+        return res;
+    }
+
+    private static GameObject randomObject(GameMap gameMap, Player owner, Random random) {
+        return switch (random.nextInt(9)) {
+            case 0 -> new Capital(gameMap, null, owner);
+            case 1 -> new Farm(gameMap, null, owner);
+            case 2 -> new Tower(gameMap, null, owner);
+            case 3 -> new SuperTower(gameMap, null, owner);
+            case 4 -> new Militia(gameMap, null, owner);
+            case 5 -> new Knight(gameMap, null, owner);
+            case 6 -> new Paladin(gameMap, null, owner);
+            default -> new Peasant(gameMap, null, owner);
+        };
+    }
+}
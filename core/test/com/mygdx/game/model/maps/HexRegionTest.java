@@ -0,0 +1,87 @@
+package com.mygdx.game.model.maps;
+
+import com.mygdx.game.utils.FloodFill;
+import com.mygdx.game.utils.HexGrid;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static com.mygdx.game.model.maps.CellType.MOUNTAIN;
+import static com.mygdx.game.model.maps.CellType.WATER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class HexRegionTest {
+    @ParameterizedTest
+    @MethodSource("com.mygdx.game.model.maps.TestMaps#maps")
+    void sameAsRecursionTest(int width, int height, long seed) {
+        MapCellStorage storage = new MapCreator(width, height, 0, seed).getStorage();
+        HexRegion region = new HexRegion(storage, new FloodFill(storage.grid));
+        Random random = new Random(seed);
+        for (int i = 0; i < 100; ++i) {
+            int x = random.nextInt(width), y = random.nextInt(height), radius = random.nextInt(5);
+            Set<Integer> expected = new HashSet<>();
+            collect(storage, x, y, radius, expected);
+
+            assertThat(region.aggregate(x, y, radius)).isEqualTo(expected.size());
+            if (expected.isEmpty()) continue;
+            Set<Integer> actual = new HashSet<>();
+            for (int k = 0; k < region.getCount(); ++k) {
+                actual.add(region.getIndex(k));
+                assertThat(region.getDistance(k)).isBetween(k == 0 ? 0 : 1, radius);
+            }
+            assertThat(actual).isEqualTo(expected);
+
+            double elevation = 0, humidity = 0, min = 1, max = -1;
+            for (int index : expected) {
+                elevation += storage.getElevation(index);
+                humidity += storage.getHumidity(index);
+                min = Math.min(min, storage.getHumidity(index));
+                max = Math.max(max, storage.getElevation(index));
+            }
+            assertThat(region.getMeanElevation()).isCloseTo(elevation / expected.size(), within(1e-9));
+            assertThat(region.getMeanHumidity()).isCloseTo(humidity / expected.size(), within(1e-9));
+            assertThat(region.getMinHumidity()).isEqualTo(min);
+            assertThat(region.getMaxElevation()).isEqualTo(max);
+        }
+    }
+
+    /**
+     * a region is visited cell by cell once, so it never has more cells than the hex disk of its radius
+     */
+    @Test
+    void largeRadiusTest() {
+        int radius = 30;
+        MapCellStorage storage = new MapCreator(125, 125, 0, 999).getStorage();
+        HexRegion region = new HexRegion(storage, new FloodFill(storage.grid));
+        Random random = new Random(999);
+        int largest = 0;
+        for (int i = 0; i < 200; ++i) {
+            int count = region.aggregate(random.nextInt(125), random.nextInt(125), radius);
+            assertThat(count).isLessThanOrEqualTo(3 * radius * (radius + 1) + 1);
+            for (int k = 0; k < count; ++k) {
+                assertThat(region.getDistance(k)).isLessThanOrEqualTo(radius);
+            }
+            largest = Math.max(largest, count);
+        }
+        assertThat(largest).isGreaterThan(3 * 5 * (5 + 1) + 1);
+    }
+
+    /**
+     * the cells the old recursive walk visited: every path of at most area steps over cells that are not water or mountain
+     */
+    private static void collect(MapCellStorage storage, int x, int y, int area, Set<Integer> region) {
+        if (!storage.contains(x, y)) return;
+        CellType type = storage.getType(storage.index(x, y));
+        if (type == WATER || type == MOUNTAIN) return;
+        region.add(storage.index(x, y));
+        if (area <= 0) return;
+        for (int[] nb : HexGrid.getNeighbours(x)) {
+            collect(storage, x + nb[0], y + nb[1], area - 1, region);
+        }
+    }
+}
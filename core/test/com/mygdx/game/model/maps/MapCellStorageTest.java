@@ -0,0 +1,92 @@
+package com.mygdx.game.model.maps;
+
+import com.mygdx.game.model.gameobjects.GameObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MapCellStorageTest {
+    /**
+     * layout of a cell before the storage: one object per cell
+     */
+    @SuppressWarnings("unused")
+    private static class ObjectCell {
+        private CellType type = CellType.UNDEFINED;
+        private double elevation = -1;
+        private double humidity = -1;
+        private int defence;
+        private final int x, y;
+        private int ownerId;
+        private GameObject gameObject;
+
+        ObjectCell(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {125, 2048})
+    void footprintTest(int size) {
+        long objectGrid = allocatedBytes(n -> {
+            ObjectCell[][] cells = new ObjectCell[n][n];
+            for (int i = 0; i < n; ++i) {
+                for (int j = 0; j < n; ++j) {
+                    cells[i][j] = new ObjectCell(i, j);
+                }
+            }
+            return cells;
+        }, size);
+        long flatStorage = allocatedBytes(n -> new MapCellStorage(n, n), size);
+        long walkedStorage = allocatedBytes(n -> {
+            MapCellStorage storage = new MapCellStorage(n, n);
+            storage.forEachCell((x, y) -> storage.setDefence(storage.index(x, y), 0));
+            return storage;
+        }, size);
+
+        assertThat(flatStorage).isLessThan(objectGrid / 2);
+        assertThat(flatStorage).isLessThan(16L * size * size);
+        assertThat(walkedStorage).isLessThan(16L * size * size);
+    }
+
+    @Test
+    void viewsShareStateTest() {
+        MapCellStorage storage = new MapCellStorage(10, 12);
+        MapCell cell = storage.cell(3, 7);
+        cell.setType(CellType.LAND);
+        cell.setElevation(0.537);
+        cell.setHumidity(0.25);
+        cell.setOwnerId(42);
+        cell.setDefence(3);
+
+        MapCell other = storage.cell(3, 7);
+        assertThat(other).isEqualTo(cell);
+        assertThat(other).isNotSameAs(cell);
+        assertThat(other.getType()).isEqualTo(CellType.LAND);
+        assertThat(other.getElevation()).isEqualTo(0.537);
+        assertThat(other.getHumidity()).isEqualTo(0.25);
+        assertThat(other.getOwnerId()).isEqualTo(42);
+        assertThat(other.getDefence()).isEqualTo(3);
+        assertThat(storage.cell(3, 12)).isNull();
+        assertThat(storage.cell(-1, 0)).isNull();
+
+        MapCell placement = storage.placement(storage.index(3, 7), 3, 7);
+        assertThat(storage.cell(3, 7)).isSameAs(placement);
+        assertThat(storage.placement(storage.index(3, 7), 3, 7)).isSameAs(placement);
+    }
+
+    private static long allocatedBytes(IntFunction<Object> allocation, int size) {
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long before = bean.getThreadAllocatedBytes(threadId);
+        Object grid = allocation.apply(size);
+        long after = bean.getThreadAllocatedBytes(threadId);
+        assertThat(grid).isNotNull();
+        return after - before;
+    }
+}
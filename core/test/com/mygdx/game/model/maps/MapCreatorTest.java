@@ -0,0 +1,74 @@
+package com.mygdx.game.model.maps;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+public class MapCreatorTest {
+    @ParameterizedTest
+    @MethodSource("goldenMaps")
+    void sameMapAtAnyThreadCountTest(int width, int height, long seed, long golden) {
+        int[] threads = IntStream.of(1, 2, 4, Runtime.getRuntime().availableProcessors()).distinct().toArray();
+        for (int n : threads) {
+            ForkJoinPool pool = new ForkJoinPool(n);
+            try {
+                MapCreator mapCreator = new MapCreator(width, height, 0, seed, pool);
+                assertThat(checksum(mapCreator)).as("%d threads", n).isEqualTo(golden);
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("goldenMaps")
+    void attemptsRecordedTest(int width, int height, long seed) {
+        MapCreator mapCreator = new MapCreator(width, height, 0, seed);
+        assertThat(mapCreator.getAttempts()).isPositive();
+        for (int i = 0; i < mapCreator.getAttempts(); ++i) {
+            assertThat(mapCreator.getAttemptNanos(i)).isPositive();
+        }
+    }
+
+    @Test
+    void patchesTest() {
+        MapCreator mapCreator = new MapCreator(60, 40, 0, 1234);
+        long before = checksum(mapCreator);
+        mapCreator.createMagic(20, 3);
+        assertThat(checksum(mapCreator)).isNotEqualTo(before);
+
+        assertThatThrownBy(() -> mapCreator.createMagic(1, 20)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> mapCreator.createMagic(1, -1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    static Stream<Arguments> goldenMaps() {
+        return Stream.of(
+                arguments(10, 10, 7, -7182228378625724407L),
+                arguments(60, 40, 1234, -1875433010228026212L),
+                arguments(125, 125, 999, -8242443394144814928L)
+        );
+    }
+
+    static long checksum(MapCreator mapCreator) {
+        long res = 17;
+        for (int i = 0; i < mapCreator.getWidth(); ++i) {
+            for (int j = 0; j < mapCreator.getHeight(); ++j) {
+                MapCell cell = mapCreator.safeAccess(i, j);
+                res = res * 31 + cell.getType().ordinal();
+                res = res * 31 + cell.getOwnerId();
+                res = res * 31 + Double.hashCode(cell.getElevation());
+                res = res * 31 + Double.hashCode(cell.getHumidity());
+            }
+        }
+        return res;
+    }
+}
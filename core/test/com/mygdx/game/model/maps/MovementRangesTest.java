@@ -0,0 +1,112 @@
+package com.mygdx.game.model.maps;
+
+import com.mygdx.game.model.gameobjects.GameObject;
+import com.mygdx.game.model.gameobjects.buildings.Tower;
+import com.mygdx.game.model.gameobjects.units.Knight;
+import com.mygdx.game.model.gameobjects.units.Peasant;
+import com.mygdx.game.model.gameobjects.units.Unit;
+import com.mygdx.game.model.players.Player;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MovementRangesTest {
+    @ParameterizedTest
+    @MethodSource("com.mygdx.game.model.maps.TestMaps#maps")
+    void sameAsSearchTest(int width, int height, long seed) {
+        GameMap gameMap = new GameMap(width, height, 0, seed);
+        Random random = new Random(seed);
+        Player[] players = {new Player(1, "first", null), new Player(2, "second", null)};
+        for (int i = 0; i < width * height / 4; ++i) {
+            MapCell cell = TestMaps.randomLand(gameMap, random);
+            gameMap.setOwnerId(cell.x, cell.y, players[random.nextInt(players.length)].id);
+        }
+        List<Unit> units = new ArrayList<>();
+
+        for (int step = 0; step < 500; ++step) {
+            MapCell cell = TestMaps.randomLand(gameMap, random);
+            Player player = players[random.nextInt(players.length)];
+            switch (random.nextInt(6)) {
+                case 0 -> gameMap.setOwnerId(cell.x, cell.y, player.id);
+                case 1 -> place(gameMap, units, new Tower(gameMap, null, player), cell);
+                case 2 -> place(gameMap, units, random.nextBoolean() ? new Peasant(gameMap, null, player) : new Knight(gameMap, null, player), cell);
+                case 3 -> {
+                    if (units.isEmpty()) continue;
+                    Unit unit = units.get(random.nextInt(units.size()));
+                    if (cell.getGameObject() == unit) continue;
+                    gameMap.removeGameObject(unit);
+                    place(gameMap, units, unit, cell);
+                }
+                default -> {
+                    if (units.isEmpty()) continue;
+                    Unit unit = units.get(random.nextInt(units.size()));
+                    MapCell placement = unit.getPlacement();
+                    assertRange(gameMap, gameMap.getMovementRange(placement.x, placement.y), placement);
+                }
+            }
+        }
+        for (Unit unit : units) {
+            assertRange(gameMap, gameMap.getMovementRange(unit.getPlacement().x, unit.getPlacement().y), unit.getPlacement());
+        }
+        assertThat(gameMap.getMovementRange(-1, 0)).isNull();
+    }
+
+    @Test
+    void searchOnlyAfterChangeNearbyTest() {
+        GameMap gameMap = new GameMap(125, 125, 0, 999);
+        Random random = new Random(3);
+        Player first = new Player(1, "first", null), second = new Player(2, "second", null);
+        MapCell cell = TestMaps.randomLand(gameMap, random), other = TestMaps.randomLand(gameMap, random);
+        gameMap.setGameObject(new Peasant(gameMap, null, first), cell.x, cell.y);
+        gameMap.setGameObject(new Knight(gameMap, null, second), other.x, other.y);
+        MovementRanges ranges = gameMap.getMovementRanges();
+
+        MovementRange range = gameMap.getMovementRange(cell.x, cell.y);
+        for (int i = 0; i < 100; ++i) {
+            assertThat(gameMap.getMovementRange(other.x, other.y)).isNotNull();
+            assertThat(gameMap.getMovementRange(cell.x, cell.y)).isSameAs(range);
+        }
+        assertThat(ranges.getSearches()).isEqualTo(2);
+
+        MapCell far = gameMap.getCell((cell.x + 60) % 125, (cell.y + 60) % 125);
+        gameMap.setOwnerId(far.x, far.y, second.id);
+        assertThat(gameMap.getMovementRange(cell.x, cell.y)).isSameAs(range);
+
+        int nx = cell.x + 1 < 125 ? cell.x + 1 : cell.x - 1;
+        gameMap.setOwnerId(nx, cell.y, second.id);
+        assertThat(gameMap.getMovementRange(cell.x, cell.y)).isNotSameAs(range);
+        assertThat(ranges.getSearches()).isEqualTo(3);
+
+        gameMap.clearMovementRanges();
+        gameMap.getMovementRange(cell.x, cell.y);
+        assertThat(ranges.getSearches()).isEqualTo(4);
+    }
+
+    private static void place(GameMap gameMap, List<Unit> units, GameObject gameObject, MapCell cell) {
+        if (cell.getGameObject() instanceof Unit unit) units.remove(unit);
+        gameMap.setGameObject(gameObject, cell.x, cell.y);
+        if (gameObject instanceof Unit unit && !units.contains(unit)) units.add(unit);
+    }
+
+    /**
+     * compares the kept range with the mirror searched from scratch
+     */
+    private static void assertRange(GameMap gameMap, MovementRange range, MapCell placement) {
+        int[][] expected = gameMap.selectCellsToMove(placement.x, placement.y);
+        int[][] actual = new int[gameMap.getWidth()][gameMap.getHeight()];
+        for (int[] row : actual) {
+            Arrays.fill(row, -1);
+        }
+        for (int i = 0; i < range.size(); ++i) {
+            actual[range.getX(i)][range.getY(i)] = range.getDistanceLeft(i);
+        }
+        assertThat(actual).isDeepEqualTo(expected);
+    }
+}
@@ -0,0 +1,111 @@
+package com.mygdx.game.model.maps;
+
+import com.badlogic.gdx.utils.Queue;
+import com.mygdx.game.model.gameobjects.units.Knight;
+import com.mygdx.game.model.gameobjects.units.Peasant;
+import com.mygdx.game.model.gameobjects.units.Unit;
+import com.mygdx.game.model.players.Player;
+import com.mygdx.game.utils.HexGrid;
+import com.mygdx.game.utils.Triple;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Random;
+
+import static com.mygdx.game.model.maps.CellType.WATER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SelectCellsToMoveTest {
+    @ParameterizedTest
+    @MethodSource("com.mygdx.game.model.maps.TestMaps#maps")
+    void sameAsQueueOfTriplesTest(int width, int height, long seed) {
+        GameMap gameMap = new GameMap(width, height, 0, seed);
+        Random random = new Random(seed);
+        Player first = new Player(1, "first", null), second = new Player(2, "second", null);
+        for (int x = 0; x < width; ++x) {
+            for (int y = 0; y < height; ++y) {
+                MapCell cell = gameMap.getCell(x, y);
+                if (cell.getType() == WATER) continue;
+                cell.setOwnerId(random.nextInt(3) == 0 ? second.id : first.id);
+                cell.setDefence(random.nextInt(5));
+            }
+        }
+
+        for (int i = 0; i < 50; ++i) {
+            MapCell cell = TestMaps.randomLand(gameMap, random);
+            Unit unit = i % 2 == 0 ? new Peasant(gameMap, cell, first) : new Knight(gameMap, cell, second);
+            gameMap.setGameObject(unit, cell.x, cell.y);
+
+            int[][] expected = legacySelectCellsToMove(gameMap, cell.x, cell.y);
+            assertThat(gameMap.selectCellsToMove(cell.x, cell.y)).isDeepEqualTo(expected);
+            gameMap.removeGameObject(unit);
+        }
+        assertThat(gameMap.selectCellsToMove(0, 0)).isNull();
+        assertThat(gameMap.reachableCells(-1, 0)).isNull();
+    }
+
+    @Test
+    void allocationPerCallTest() {
+        GameMap gameMap = new GameMap(125, 125, 0, 999);
+        Player player = new Player(1, "first", null);
+        MapCell cell = TestMaps.randomLand(gameMap, new Random(1));
+        gameMap.setGameObject(new Peasant(gameMap, cell, player), cell.x, cell.y);
+
+        for (int i = 0; i < 1000; ++i) {
+            gameMap.reachableCells(cell.x, cell.y);
+            legacySelectCellsToMove(gameMap, cell.x, cell.y);
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long before = threads.getCurrentThreadAllocatedBytes();
+        legacySelectCellsToMove(gameMap, cell.x, cell.y);
+        long legacy = threads.getCurrentThreadAllocatedBytes() - before;
+
+        before = threads.getCurrentThreadAllocatedBytes();
+        gameMap.reachableCells(cell.x, cell.y);
+        long fill = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertThat(fill).isZero();
+        assertThat(legacy).isGreaterThan(fill);
+    }
+
+    /**
+     * breadth-first search of the cells to move to as it was written before {@link com.mygdx.game.utils.FloodFill}
+     */
+    private static int[][] legacySelectCellsToMove(GameMap gameMap, int xValue, int yValue) {
+        int[][] mirror = new int[gameMap.getWidth()][gameMap.getHeight()];
+        for (int[] row : mirror) {
+            Arrays.fill(row, -1);
+        }
+        MapCell startCell = gameMap.getCell(xValue, yValue);
+        Unit unit = (Unit) startCell.getGameObject();
+        Queue<Triple<Integer, Integer, Integer>> q = new Queue<>();
+        q.addFirst(Triple.triple(xValue, yValue, unit.getDistance()));
+        while (q.notEmpty()) {
+            Triple<Integer, Integer, Integer> t = q.removeLast();
+            int x = t.first;
+            int y = t.second;
+            int n = t.third;
+            MapCell cell = gameMap.getCell(x, y);
+
+            boolean stop = false;
+            if (cell == null) continue;
+            if (cell.getType() == WATER) continue;
+            if (mirror[x][y] > 0) stop = true;
+            if (startCell.getOwnerId() != cell.getOwnerId()) {
+                if (cell.getDefence() >= unit.getPower()) continue;
+                stop = true;
+            }
+            mirror[x][y] = Math.max(mirror[x][y], n);
+
+            if (n <= 0 || stop) continue;
+            for (int[] d : HexGrid.getNeighbours(x)) {
+                q.addFirst(Triple.triple(x + d[0], y + d[1], n - 1));
+            }
+        }
+        mirror[xValue][yValue] = -1;
+        return mirror;
+    }
+}
@@ -0,0 +1,103 @@
+package com.mygdx.game.model.maps;
+
+import com.mygdx.game.model.gameobjects.GameObject;
+import com.mygdx.game.model.gameobjects.buildings.Capital;
+import com.mygdx.game.model.gameobjects.units.Knight;
+import com.mygdx.game.model.gameobjects.units.Peasant;
+import com.mygdx.game.model.players.Player;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Random;
+
+import static com.mygdx.game.model.maps.ChunkedMapStorage.CHUNK_SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TerritoryTest {
+    private static final int[] OWNERS = {Player.NOBODY.id, 1, 2, 3};
+
+    @ParameterizedTest
+    @MethodSource("com.mygdx.game.model.maps.TestMaps#maps")
+    void sameAsScanTest(int width, int height, long seed) {
+        GameMap gameMap = new GameMap(width, height, 0, seed);
+        Random random = new Random(seed);
+        Player[] players = {new Player(1, "first", null), new Player(2, "second", null), new Player(3, "third", null)};
+        for (int owner : OWNERS) {
+            gameMap.getTerritory(owner);
+        }
+
+        for (int step = 0; step < 400; ++step) {
+            MapCell cell = TestMaps.randomLand(gameMap, random);
+            Player player = players[random.nextInt(players.length)];
+            switch (random.nextInt(4)) {
+                case 0 -> gameMap.setOwnerId(cell.x, cell.y, OWNERS[random.nextInt(OWNERS.length)]);
+                case 1 -> {
+                    Capital capital = new Capital(gameMap, null, player);
+                    gameMap.setGameObject(capital, cell.x, cell.y);
+                    gameMap.createCapitalArea(capital);
+                }
+                default -> {
+                    GameObject unit = random.nextBoolean() ? new Peasant(gameMap, null, player) : new Knight(gameMap, null, player);
+                    gameMap.setGameObject(unit, cell.x, cell.y);
+                }
+            }
+            if (step % 20 == 0) assertTerritories(gameMap);
+        }
+        assertTerritories(gameMap);
+    }
+
+    /**
+     * capitals are placed on the territory of nobody before anything of the map was drawn: it starts with the
+     * sampled chunks and grows with every chunk generated later
+     */
+    @Test
+    void territoryOfNobodyOfNewChunkedMapTest() {
+        GameMap gameMap = new GameMap(300, 300, 0, 5);
+        Territory nobody = gameMap.getTerritory(Player.NOBODY.id);
+        assertThat(nobody.size()).isZero();
+        gameMap.sampleCapitalLand();
+        assertThat(nobody.size()).isPositive();
+        MapCell far = TestMaps.randomLand(gameMap, new Random(5), 200, 200, 100, 100);
+        assertThat(nobody.contains(far.x, far.y)).isTrue();
+        assertTerritories(gameMap);
+    }
+
+    @Test
+    void capitalLandOfLargeMapTest() {
+        GameMap gameMap = new GameMap(2048, 2048, 0, 5);
+        Territory nobody = gameMap.getTerritory(Player.NOBODY.id);
+        gameMap.sampleCapitalLand();
+        int sampled = GameMap.CAPITAL_CHUNKS * GameMap.CAPITAL_CHUNKS * CHUNK_SIZE * CHUNK_SIZE;
+        assertThat(nobody.size()).isPositive().isLessThanOrEqualTo(sampled);
+        for (int i = 0; i < nobody.size(); ++i) {
+            int x = nobody.getX(i), y = nobody.getY(i);
+            assertThat(gameMap.getOwnerId(x, y)).isEqualTo(Player.NOBODY.id);
+            assertThat(gameMap.getType(x, y)).isNotEqualTo(CellType.WATER);
+        }
+    }
+
+    private static void assertTerritories(GameMap gameMap) {
+        int[][] owners = new int[gameMap.getWidth()][gameMap.getHeight()];
+        for (int x = 0; x < gameMap.getWidth(); ++x) {
+            for (int y = 0; y < gameMap.getHeight(); ++y) {
+                owners[x][y] = gameMap.getCell(x, y).getOwnerId();
+            }
+        }
+        for (int owner : OWNERS) {
+            Territory territory = gameMap.getTerritory(owner);
+            int count = 0;
+            for (int x = 0; x < gameMap.getWidth(); ++x) {
+                for (int y = 0; y < gameMap.getHeight(); ++y) {
+                    assertThat(territory.contains(x, y)).as("cell (%d, %d) of %d", x, y, owner).isEqualTo(owners[x][y] == owner);
+                    if (owners[x][y] == owner) ++count;
+                }
+            }
+            assertThat(territory.size()).isEqualTo(count);
+            assertThat(territory.getCells().count()).isEqualTo(count);
+            for (int i = 0; i < territory.size(); ++i) {
+                assertThat(owners[territory.getX(i)][territory.getY(i)]).isEqualTo(owner);
+            }
+        }
+    }
+}
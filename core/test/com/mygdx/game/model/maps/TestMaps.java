@@ -0,0 +1,45 @@
+package com.mygdx.game.model.maps;
+
+import org.junit.jupiter.params.provider.Arguments;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static com.mygdx.game.model.maps.CellType.WATER;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+/**
+ * maps and cells shared by the tests of the map
+ */
+final class TestMaps {
+    private TestMaps() {
+    }
+
+    /**
+     * width, height and seed of a small, an oblong, the largest generated at once and a chunked map,
+     * for {@code @MethodSource("com.mygdx.game.model.maps.TestMaps#maps")}
+     */
+    static Stream<Arguments> maps() {
+        return Stream.of(
+                arguments(10, 10, 7),
+                arguments(60, 40, 1234),
+                arguments(125, 125, 999),
+                arguments(200, 200, 7)
+        );
+    }
+
+    static MapCell randomLand(GameMap gameMap, Random random) {
+        return randomLand(gameMap, random, 0, 0, gameMap.getWidth(), gameMap.getHeight());
+    }
+
+    /**
+     * @return a random cell that is not water in the window of width x height cells from (x0, y0),
+     * the window may reach out of the map
+     */
+    static MapCell randomLand(GameMap gameMap, Random random, int x0, int y0, int width, int height) {
+        while (true) {
+            MapCell cell = gameMap.getCell(x0 + random.nextInt(width), y0 + random.nextInt(height));
+            if (cell != null && cell.getType() != WATER) return cell;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.mygdx.game.model.players;
+
+import com.mygdx.game.ProjectVariables;
+import com.mygdx.game.model.gameobjects.GameObject;
+import com.mygdx.game.model.gameobjects.buildings.Building;
+import com.mygdx.game.model.gameobjects.buildings.Capital;
+import com.mygdx.game.model.gameobjects.buildings.Farm;
+import com.mygdx.game.model.gameobjects.buildings.SuperTower;
+import com.mygdx.game.model.gameobjects.buildings.Tower;
+import com.mygdx.game.model.gameobjects.units.Knight;
+import com.mygdx.game.model.gameobjects.units.Militia;
+import com.mygdx.game.model.gameobjects.units.Paladin;
+import com.mygdx.game.model.gameobjects.units.Peasant;
+import com.mygdx.game.model.gameobjects.units.Unit;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LedgerTest {
+    @ParameterizedTest
+    @ValueSource(longs = {1, 7, 1234})
+    void sameAsCountingTest(long seed) {
+        Random random = new Random(seed);
+        Player player = new Player(1, "first", null);
+        List<GameObject> owned = new ArrayList<>();
+
+        for (int step = 0; step < 2000; ++step) {
+            switch (random.nextInt(7)) {
+                case 0, 1 -> {
+                    GameObject gameObject = randomObject(random, player);
+                    player.addGameObject(gameObject);
+                    owned.add(gameObject);
+                }
+                case 2 -> {
+                    if (owned.isEmpty()) continue;
+                    player.removeGameObject(owned.remove(random.nextInt(owned.size())));
+                }
+                case 3 -> player.addTerritory(random.nextInt(5));
+                case 4 -> player.removeTerritory(random.nextInt(3));
+                case 5 -> {
+                    if (random.nextInt(20) != 0) continue;
+                    player.removeUnits();
+                    owned.removeIf(gameObject -> gameObject instanceof Unit);
+                }
+                default -> {
+                    if (owned.isEmpty()) continue;
+                    player.addGameObject(owned.get(random.nextInt(owned.size())));
+                }
+            }
+            assertThat(player.getIncome()).isEqualTo(countIncome(player));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 7, 1234})
+    void projectionSameAsTurnsTest(long seed) {
+        Random random = new Random(seed);
+        for (int test = 0; test < 200; ++test) {
+            Player player = new Player(1, "first", null);
+            if (random.nextBoolean()) player.addGameObject(new Capital(null, null, player));
+            for (int i = random.nextInt(12); i > 0; --i) {
+                player.addGameObject(randomObject(random, player));
+            }
+            player.addTerritory(random.nextInt(30));
+            for (int i = random.nextInt(10); i > 0; --i) {
+                player.countIncome();
+            }
+            for (int i = random.nextInt(8); i > 0; --i) {
+                player.addGameObject(randomUnit(random, player));
+            }
+
+            Player turn = new Player(player);
+            for (int turns = 0; turns <= 12; ++turns) {
+                assertThat(player.projectGold(turns)).as("turn %d", turns).isEqualTo(turn.getGold());
+                boolean solvent = turn.isSolvent();
+                turn.countIncome();
+                if (!solvent) turn.removeUnits();
+            }
+        }
+    }
+
+    /**
+     * @return the income counted the way it was before the ledger, by walking all objects of the player
+     */
+    private static int countIncome(Player player) {
+        int income = 0;
+        if (player.getCapital() != null) {
+            income += player.getFarmsNumber() * ProjectVariables.BuildingSpec.farmMoneyPerTurn;
+            income += player.getCapital().getMoneyPerTurn();
+            income += player.getTerritories();
+        }
+        for (Building building : player.getBuildings()) {
+            income += building.getMoneyPerTurn();
+        }
+        for (Unit unit : player.getUnits()) {
+            income += unit.getMoneyPerTurn();
+        }
+        return income;
+    }
+
+    private static GameObject randomObject(Random random, Player player) {
+        return switch (random.nextInt(6)) {
+            case 0 -> new Capital(null, null, player);
+            case 1 -> new Farm(null, null, player);
+            case 2 -> new Tower(null, null, player);
+            case 3 -> new SuperTower(null, null, player);
+            default -> randomUnit(random, player);
+        };
+    }
+
+    private static Unit randomUnit(Random random, Player player) {
+        return switch (random.nextInt(4)) {
+            case 0 -> new Peasant(null, null, player);
+            case 1 -> new Militia(null, null, player);
+            case 2 -> new Knight(null, null, player);
+            default -> new Paladin(null, null, player);
+        };
+    }
+}
@@ -0,0 +1,34 @@
+package com.mygdx.game.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BiomUtilsTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 3, 6, 12})
+    void sameAsBigDecimalTest(int places) {
+        Random random = new Random(places);
+        for (int i = 0; i < 200_000; ++i) {
+            double value = (random.nextDouble() * 4 - 2) * (i % 10 == 0 ? 1e7 : 1);
+            assertThat(BiomUtils.round(value, places)).isEqualTo(BiomUtils.roundDecimal(value, places));
+        }
+    }
+
+    @Test
+    void tiesTest() {
+        for (int units = -3000; units <= 3000; ++units) {
+            double tie = (units + 0.5) / 1000;
+            assertThat(BiomUtils.round(tie, 3)).as("%s", tie).isEqualTo(BiomUtils.roundDecimal(tie, 3));
+            double unit = units / 1000.0;
+            assertThat(BiomUtils.round(unit, 3)).as("%s", unit).isEqualTo(BiomUtils.roundDecimal(unit, 3));
+        }
+        assertThat(BiomUtils.round(-0.0001, 3)).isEqualTo(0.0);
+        assertThat(BiomUtils.round(1e300, 3)).isEqualTo(1e300);
+    }
+}
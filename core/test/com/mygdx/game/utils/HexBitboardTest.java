@@ -0,0 +1,82 @@
+package com.mygdx.game.utils;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+public class HexBitboardTest {
+
+    @ParameterizedTest
+    @MethodSource("boardSizes")
+    void neighboursAtLeastTest(int width, int height) {
+        Random random = new Random(width * 31L + height);
+        HexBitboard cells = new HexBitboard(width, height);
+        for (int x = 0; x < width; ++x) {
+            for (int y = 0; y < height; ++y) {
+                cells.set(x, y, random.nextInt(3) != 0);
+            }
+        }
+
+        HexBitboard result = new HexBitboard(width, height);
+        for (int n = 0; n <= 7; ++n) {
+            result.neighboursAtLeast(cells, n);
+            int expectedCount = 0;
+            for (int x = 0; x < width; ++x) {
+                for (int y = 0; y < height; ++y) {
+                    boolean expected = countNeighbours(cells, x, y) >= n;
+                    assertThat(result.get(x, y)).isEqualTo(expected);
+                    if (expected) ++expectedCount;
+                }
+            }
+            assertThat(result.count()).isEqualTo(expectedCount);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("boardSizes")
+    void setOperationsTest(int width, int height) {
+        HexBitboard all = new HexBitboard(width, height);
+        all.fill();
+        assertThat(all.count()).isEqualTo(width * height);
+
+        HexBitboard cells = new HexBitboard(width, height);
+        cells.set(0, 0);
+        cells.set(width - 1, height - 1);
+        int marked = cells.count();
+        cells.not();
+        assertThat(cells.count()).isEqualTo(width * height - marked);
+        assertThat(cells.get(0, 0)).isFalse();
+
+        all.andNot(cells);
+        assertThat(all.count()).isEqualTo(marked);
+        all.or(cells);
+        assertThat(all.count()).isEqualTo(width * height);
+        all.and(cells);
+        assertThat(all.count()).isEqualTo(width * height - marked);
+    }
+
+    static Stream<Arguments> boardSizes() {
+        return Stream.of(
+                arguments(10, 10),
+                arguments(11, 64),
+                arguments(7, 65),
+                arguments(20, 130),
+                arguments(1, 1)
+        );
+    }
+
+    private static int countNeighbours(HexBitboard cells, int x, int y) {
+        int res = 0;
+        for (int[] nb : HexGrid.getNeighbours(x)) {
+            int nx = x + nb[0], ny = y + nb[1];
+            if (nx >= 0 && nx < cells.width && ny >= 0 && ny < cells.height && cells.get(nx, ny)) ++res;
+        }
+        return res;
+    }
+}
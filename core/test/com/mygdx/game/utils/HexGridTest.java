@@ -0,0 +1,43 @@
+package com.mygdx.game.utils;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+public class HexGridTest {
+
+    @ParameterizedTest
+    @MethodSource("gridSizes")
+    void neighboursMatchCoordinatesTest(int width, int height) {
+        HexGrid grid = new HexGrid(width, height);
+        for (int x = 0; x < width; ++x) {
+            for (int y = 0; y < height; ++y) {
+                int index = grid.index(x, y);
+                assertThat(grid.x(index)).isEqualTo(x);
+                assertThat(grid.y(index)).isEqualTo(y);
+                assertThat(grid.isSentinel(index)).isFalse();
+
+                int[][] nb = HexGrid.getNeighbours(x);
+                for (int k = 0; k < 6; ++k) {
+                    int nx = x + nb[k][0], ny = y + nb[k][1];
+                    int neighbour = grid.neighbour(index, k);
+                    assertThat(neighbour).isEqualTo(grid.index(nx, ny));
+                    assertThat(grid.isSentinel(neighbour)).isEqualTo(!grid.contains(nx, ny));
+                }
+            }
+        }
+    }
+
+    static Stream<Arguments> gridSizes() {
+        return Stream.of(
+                arguments(10, 10),
+                arguments(11, 17),
+                arguments(1, 1)
+        );
+    }
+}
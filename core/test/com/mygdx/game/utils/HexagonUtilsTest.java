@@ -0,0 +1,98 @@
+package com.mygdx.game.utils;
+
+import com.badlogic.gdx.math.Rectangle;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static com.mygdx.game.ProjectVariables.tileHeight;
+import static com.mygdx.game.ProjectVariables.tileWidth;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HexagonUtilsTest {
+    private static final int SIZE = 12;
+
+    @Test
+    void hexagonContainsItsCircleTest() {
+        float radius = 0.95f * Math.min(tileWidth * (float) Math.sqrt(3) / 4, tileHeight / 2f);
+        for (int x = 0; x < SIZE; ++x) {
+            for (int y = 0; y < SIZE; ++y) {
+                float centerX = centerX(x, y), centerY = centerY(x, y);
+                assertCell(centerX, centerY, x, y);
+                for (int k = 0; k < 24; ++k) {
+                    double angle = 2 * Math.PI * k / 24;
+                    assertCell(centerX + radius * (float) Math.cos(angle), centerY + radius * (float) Math.sin(angle), x, y);
+                }
+            }
+        }
+    }
+
+    @Test
+    void nearestCenterTest() {
+        for (float px = 0; px < SIZE * 0.75f * tileWidth; px += 1.7f) {
+            for (float py = 0; py < SIZE * tileHeight; py += 1.3f) {
+                int column = HexagonUtils.columnAt(px, py);
+                int row = HexagonUtils.rowAt(column, py);
+                float distance = distance(px, py, column, row);
+                for (int x = -1; x <= SIZE; ++x) {
+                    for (int y = -1; y <= SIZE; ++y) {
+                        assertThat(distance).as("(%f, %f) to (%d, %d)", px, py, x, y).isLessThanOrEqualTo(distance(px, py, x, y) + 1e-3f);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void visibleRangeHasAllCellsInViewTest() {
+        Random random = new Random(3);
+        for (int test = 0; test < 500; ++test) {
+            Rectangle view = new Rectangle(
+                    random.nextFloat() * 20 * tileWidth - 5 * tileWidth,
+                    random.nextFloat() * 20 * tileHeight - 5 * tileHeight,
+                    random.nextFloat() * 8 * tileWidth,
+                    random.nextFloat() * 8 * tileHeight);
+            for (int x = -3; x < 30; ++x) {
+                for (int y = -3; y < 30; ++y) {
+                    Rectangle cell = new Rectangle(HexagonUtils.countXLayout(x, y) * tileWidth,
+                            HexagonUtils.countYLayout(x, y) * tileHeight, tileWidth, tileHeight);
+                    if (!cell.overlaps(view)) continue;
+                    assertThat(x).as("column of %s", cell).isBetween(HexagonUtils.firstVisibleColumn(view), HexagonUtils.lastVisibleColumn(view));
+                    assertThat(y).as("row of %s", cell).isBetween(HexagonUtils.firstVisibleRow(view), HexagonUtils.lastVisibleRow(view));
+                }
+            }
+        }
+    }
+
+    @Test
+    void layoutHasAllCellsTest() {
+        float right = 0, top = 0;
+        for (int x = 0; x < SIZE; ++x) {
+            for (int y = 0; y < SIZE; ++y) {
+                right = Math.max(right, (HexagonUtils.countXLayout(x, y) + 1) * tileWidth);
+                top = Math.max(top, (HexagonUtils.countYLayout(x, y) + 1) * tileHeight);
+            }
+        }
+        assertThat(HexagonUtils.layoutWidth(SIZE)).isEqualTo(right);
+        assertThat(HexagonUtils.layoutHeight(SIZE)).isEqualTo(top);
+    }
+
+    private static void assertCell(float px, float py, int x, int y) {
+        int column = HexagonUtils.columnAt(px, py);
+        assertThat(column).as("column of (%f, %f)", px, py).isEqualTo(x);
+        assertThat(HexagonUtils.rowAt(column, py)).as("row of (%f, %f)", px, py).isEqualTo(y);
+    }
+
+    private static float distance(float px, float py, int x, int y) {
+        float dx = px - centerX(x, y), dy = py - centerY(x, y);
+        return dx * dx + dy * dy;
+    }
+
+    private static float centerX(int x, int y) {
+        return (HexagonUtils.countXLayout(x, y) + 0.5f) * tileWidth;
+    }
+
+    private static float centerY(int x, int y) {
+        return (HexagonUtils.countYLayout(x, y) + 0.5f) * tileHeight;
+    }
+}
@@ -0,0 +1,82 @@
+package com.mygdx.game.view;
+
+import com.mygdx.game.model.maps.CellType;
+import com.mygdx.game.model.maps.GameMap;
+import com.mygdx.game.model.maps.MapCell;
+import com.mygdx.game.model.maps.Territory;
+import com.mygdx.game.model.players.Player;
+import com.mygdx.game.utils.HexGrid;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BorderOverlayTest {
+    private static final int WIDTH = 30, HEIGHT = 20;
+    private static final List<Integer> turnOrder = List.of(1, 2, 3);
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 7, 1234})
+    void sameAsCountingTest(long seed) {
+        GameMap gameMap = new GameMap(WIDTH, HEIGHT, 0, seed);
+        BorderOverlay borders = new BorderOverlay(gameMap, new PlayerBorders(turnOrder));
+        Random random = new Random(seed);
+
+        for (int step = 0; step < 1500; ++step) {
+            int x = random.nextInt(WIDTH), y = random.nextInt(HEIGHT);
+            if (gameMap.getCell(x, y).getType() == CellType.WATER) continue;
+            int owner = random.nextInt(4) == 0 ? Player.NOBODY.id : turnOrder.get(random.nextInt(turnOrder.size()));
+            gameMap.setOwnerId(x, y, owner);
+            borders.update(x, y);
+            if (step % 100 == 0) assertEdges(gameMap, borders);
+        }
+        assertEdges(gameMap, borders);
+    }
+
+    @Test
+    void unknownOwnerTest() {
+        GameMap gameMap = new GameMap(WIDTH, HEIGHT, 0, 1);
+        BorderOverlay borders = new BorderOverlay(gameMap, new PlayerBorders(turnOrder));
+        Territory land = gameMap.getTerritory(Player.NOBODY.id);
+        int x = land.getX(0), y = land.getY(0);
+        gameMap.setOwnerId(x, y, 4);
+        assertThatThrownBy(() -> borders.update(x, y)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new PlayerBorders(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void assertEdges(GameMap gameMap, BorderOverlay borders) {
+        int cells = 0;
+        for (int x = 0; x < WIDTH; ++x) {
+            for (int y = 0; y < HEIGHT; ++y) {
+                int edges = countEdges(gameMap, x, y);
+                assertThat(borders.getEdges(x, y)).as("edges of (%d, %d)", x, y).isEqualTo(edges);
+                if (edges != 0) ++cells;
+            }
+        }
+        assertThat(borders.size()).isEqualTo(cells);
+    }
+
+    /**
+     * @return edges of the cell with a border, found by walking its neighbours
+     */
+    private static int countEdges(GameMap gameMap, int x, int y) {
+        MapCell cell = gameMap.getCell(x, y);
+        if (cell.getType() == CellType.WATER || cell.getOwnerId() == Player.NOBODY.id) return 0;
+        HexGrid grid = gameMap.getGrid();
+        int[] offsets = grid.neighbourOffsets(x);
+        int edges = 0;
+        for (int k = 0; k < 6; ++k) {
+            int neighbour = grid.index(x, y) + offsets[k];
+            if (grid.isSentinel(neighbour) || gameMap.getCell(grid.x(neighbour), grid.y(neighbour)).getOwnerId() != cell.getOwnerId()) {
+                edges |= 1 << k;
+            }
+        }
+        return edges;
+    }
+}
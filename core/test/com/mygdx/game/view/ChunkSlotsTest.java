@@ -0,0 +1,49 @@
+package com.mygdx.game.view;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ChunkSlotsTest {
+    @Test
+    void leastRecentEvictedTest() {
+        ChunkSlots slots = new ChunkSlots(3);
+        slots.nextFrame();
+        int first = slots.put(10), second = slots.put(11), third = slots.put(12);
+        assertThat(slots.size()).isEqualTo(3);
+
+        slots.nextFrame();
+        assertThat(slots.get(10)).isEqualTo(first);
+        assertThat(slots.get(12)).isEqualTo(third);
+        assertThat(slots.get(13)).isEqualTo(-1);
+        assertThat(slots.put(13)).isEqualTo(second);
+        assertThat(slots.get(11)).isEqualTo(-1);
+        assertThat(slots.chunkOf(second)).isEqualTo(13);
+
+        slots.nextFrame();
+        slots.get(13);
+        slots.nextFrame();
+        assertThat(slots.put(14)).isIn(first, third);
+        assertThat(slots.size()).isEqualTo(3);
+    }
+
+    @Test
+    void chunksOfFrameKeptTest() {
+        ChunkSlots slots = new ChunkSlots(2);
+        slots.nextFrame();
+        for (int chunk = 0; chunk < 5; ++chunk) {
+            slots.put(chunk);
+        }
+        assertThat(slots.size()).isEqualTo(5);
+        for (int chunk = 0; chunk < 5; ++chunk) {
+            assertThat(slots.chunkOf(slots.get(chunk))).isEqualTo(chunk);
+        }
+
+        slots.nextFrame();
+        slots.get(4);
+        int slot = slots.put(5);
+        assertThat(slots.size()).isEqualTo(5);
+        assertThat(slots.get(4)).isNotEqualTo(slot);
+        assertThat(slots.get(5)).isEqualTo(slot);
+    }
+}
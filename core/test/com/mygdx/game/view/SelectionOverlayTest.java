@@ -0,0 +1,86 @@
+package com.mygdx.game.view;
+
+import com.mygdx.game.model.maps.CellList;
+import com.mygdx.game.model.maps.CellType;
+import com.mygdx.game.model.maps.GameMap;
+import com.mygdx.game.model.maps.Territory;
+import com.mygdx.game.model.players.Player;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SelectionOverlayTest {
+    private static final int WIDTH = 12, HEIGHT = 10;
+
+    @Test
+    void reselectTest() {
+        SelectionOverlay overlay = new SelectionOverlay(new GameMap(WIDTH, HEIGHT, 0, 1));
+        assertThat(overlay.contains(0, 0)).isFalse();
+
+        overlay.select(list(0, 0, 3, 4, 3, 4, 8, 6));
+        assertThat(overlay.isShown()).isTrue();
+        assertThat(overlay.size()).isEqualTo(3);
+        assertThat(overlay.contains(3, 4)).isTrue();
+        assertThat(overlay.contains(8, 6)).isTrue();
+
+        overlay.select(list(3, 4, 5, 5));
+        assertThat(overlay.size()).isEqualTo(2);
+        assertThat(overlay.contains(0, 0)).isFalse();
+        assertThat(overlay.contains(8, 6)).isFalse();
+        assertThat(overlay.contains(3, 4)).isTrue();
+        assertThat(overlay.contains(5, 5)).isTrue();
+
+        overlay.clear();
+        assertThat(overlay.isShown()).isFalse();
+        assertThat(overlay.size()).isZero();
+        assertThat(overlay.contains(3, 4)).isFalse();
+
+        overlay.select(list());
+        assertThat(overlay.isShown()).isTrue();
+        assertThat(overlay.contains(5, 5)).isFalse();
+    }
+
+    /**
+     * the first selection of a map larger than {@link GameMap#EAGER_GENERATION_LIMIT} is made before any of its
+     * chunks was drawn, the capitals are offered the land of the sampled chunks all over the map
+     */
+    @Test
+    void capitalCellsOfChunkedMapTest() {
+        GameMap gameMap = new GameMap(1000, 1000, 0, 7);
+        SelectionOverlay overlay = new SelectionOverlay(gameMap);
+        gameMap.sampleCapitalLand();
+        Territory nobody = gameMap.getTerritory(Player.NOBODY.id);
+        overlay.select(nobody);
+        assertThat(overlay.size()).isPositive().isEqualTo(nobody.size());
+        int[] quarters = new int[4];
+        for (int i = 0; i < nobody.size(); ++i) {
+            int x = nobody.getX(i), y = nobody.getY(i);
+            assertThat(overlay.contains(x, y)).isTrue();
+            assertThat(gameMap.getType(x, y)).isNotEqualTo(CellType.WATER);
+            ++quarters[x / 500 * 2 + y / 500];
+        }
+        assertThat(quarters).doesNotContain(0);
+    }
+
+    /**
+     * @param coordinates x and y of every cell
+     */
+    private static CellList list(int... coordinates) {
+        return new CellList() {
+            @Override
+            public int size() {
+                return coordinates.length / 2;
+            }
+
+            @Override
+            public int getX(int i) {
+                return coordinates[2 * i];
+            }
+
+            @Override
+            public int getY(int i) {
+                return coordinates[2 * i + 1];
+            }
+        };
+    }
+}